@@ -23,19 +23,66 @@ public final class OASConfig {
     private OASConfig(){}
 
     /**
-     * Configuration property to specify the fully qualified name of the OASModelReader implementation.
+     * Configuration property to specify the fully qualified name of the OASModelReader implementation, or an ordered,
+     * comma-separated list of names when several readers contribute to the model.
      * 
      * @see org.eclipse.microprofile.openapi.OASModelReader
      */
     public static final String MODEL_READER = "mp.openapi.model.reader";
 
     /**
-     * Configuration property to specify the fully qualified name of the OASFilter implementation.
+     * Configuration property to specify the fully qualified name of the OASFilter implementation, or an ordered,
+     * comma-separated list of names when several filters are applied in the same walk of the model.
      * 
      * @see org.eclipse.microprofile.openapi.OASFilter
      */
     public static final String FILTER = "mp.openapi.filter";
 
+    /**
+     * Configuration property to enable the profiling of the OASFilter. When enabled, the document contains the number
+     * of calls to each method of each filter and the time spent in it, in the <code>x-mp-openapi-filter-profile</code>
+     * extension, a list with one profile per filter. Default value is <code>false</code>.
+     * 
+     */
+    public static final String FILTER_PROFILE = "mp.openapi.filter.profile";
+
+    /**
+     * Configuration property to enable the removal of components that are no longer reachable from the paths of the
+     * document once the filter has been applied. Default value is <code>false</code>.
+     * 
+     */
+    public static final String COMPONENTS_PRUNE_UNUSED = "mp.openapi.components.prune.unused";
+
+    /**
+     * Configuration property to specify the list of components that must be kept when unused components are removed,
+     * given as references (e.g. <code>#/components/schemas/Error</code>).
+     * 
+     */
+    public static final String COMPONENTS_PRUNE_KEEP = "mp.openapi.components.prune.keep";
+
+    /**
+     * Configuration property to specify the size in bytes from which a static file is memory-mapped, when it is
+     * exploded on disk, or streamed from its archive entry, rather than read into memory before being parsed. A negative
+     * value disables this loading path. Default value is <code>1048576</code>.
+     * 
+     */
+    public static final String STATIC_MAPPED_THRESHOLD = "mp.openapi.static.mapped.threshold";
+
+    /**
+     * Configuration property to specify the local directory in which the models parsed from static files, fragments and
+     * the files they reference are cached, keyed by a hash of their content, across deployments. No files are cached
+     * on disk when the property is not set.
+     * 
+     */
+    public static final String STATIC_CACHE_DIR = "mp.openapi.static.cache.dir";
+
+    /**
+     * Configuration property to enable the reloading of the static files when they change on disk, without redeploying
+     * the application. Meant for development only. Default value is <code>false</code>.
+     * 
+     */
+    public static final String STATIC_WATCH = "mp.openapi.static.watch";
+
     /**
      * Configuration property to disable annotation scanning.
      * 
@@ -66,6 +113,21 @@ public final class OASConfig {
      */
     public static final String SCAN_EXCLUDE_CLASSES = "mp.openapi.scan.exclude.classes";
 
+    /**
+     * Configuration property to specify the maximum number of threads used to scan the annotations. A value of
+     * <code>1</code> scans on a single thread. The document does not depend on this value.
+     * 
+     */
+    public static final String SCAN_PARALLELISM = "mp.openapi.scan.parallelism";
+
+    /**
+     * Configuration property to specify how the annotations are scanned, either <code>default</code> or
+     * <code>bytecode</code>. The <code>bytecode</code> mode reads the annotations from the class files, without loading
+     * or initializing the scanned classes.
+     * 
+     */
+    public static final String SCAN_MODE = "mp.openapi.scan.mode";
+
     /**
      * Configuration property to specify the list of global servers that provide connectivity information.
      * 
@@ -90,6 +152,39 @@ public final class OASConfig {
      */
     public static final String SCHEMA_PREFIX = "mp.openapi.schema.";
 
+    /**
+     * Configuration property to specify the engine used to match values against the pattern property of schemas, either
+     * <code>default</code> or <code>linear</code>. The <code>linear</code> engine matches in linear time and rejects the
+     * patterns it cannot handle. It does not apply to
+     * {@link org.eclipse.microprofile.openapi.models.media.Schema#getCompiledPattern()}, which always uses
+     * <code>java.util.regex</code>.
+     * 
+     */
+    public static final String PATTERN_ENGINE = "mp.openapi.pattern.engine";
+
+    /**
+     * Configuration property to specify the compression level, from <code>0</code> to <code>9</code>, of the compressed
+     * variants of the document served by the <code>/openapi</code> endpoint. A value of <code>0</code> disables compression.
+     * 
+     */
+    public static final String COMPRESSION_LEVEL = "mp.openapi.compression.level";
+
+    /**
+     * Configuration property to enable the metrics of the processing of the document and of the <code>/openapi</code>
+     * endpoint, when MicroProfile Metrics is available. Default value is <code>true</code>.
+     * 
+     * @see org.eclipse.microprofile.openapi.OASMetrics
+     */
+    public static final String METRICS_ENABLED = "mp.openapi.metrics.enabled";
+
+    /**
+     * Configuration property to enable the Java Flight Recorder events for the individual calls to the methods of the
+     * OASFilter. Default value is <code>false</code>.
+     * 
+     * @see org.eclipse.microprofile.openapi.OASEvents#FILTER_CALLBACK
+     */
+    public static final String EVENTS_FILTER_CALLBACKS = "mp.openapi.events.filter.callbacks";
+
     /**
      * Recommended prefix for vendor specific configuration properties.
      * 
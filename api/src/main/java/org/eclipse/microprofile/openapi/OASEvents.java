@@ -0,0 +1,125 @@
+/**
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi;
+
+/**
+ * Names of the Java Flight Recorder events that vendors emit while processing the document, and of their fields.
+ * <p>
+ * All the events belong to the category {@value #CATEGORY}, under {@value #PARENT_CATEGORY}, and their duration is
+ * the duration of what they record.
+ */
+public final class OASEvents {
+
+    private OASEvents(){}
+
+    /**
+     * Parent category of all the events.
+     * 
+     */
+    public static final String PARENT_CATEGORY = "MicroProfile";
+
+    /**
+     * Category of all the events, under {@link #PARENT_CATEGORY}.
+     * 
+     */
+    public static final String CATEGORY = "OpenAPI";
+
+    /**
+     * Event of the call to {@link OASModelReader#buildModelAsync(java.util.concurrent.Executor)}, until its
+     * {@link java.util.concurrent.CompletionStage} completes, with the fields {@link #APPLICATION} and
+     * {@link #CLASS_NAME}. When several model readers are registered, one event is emitted per reader.
+     * 
+     */
+    public static final String MODEL_READER = "org.eclipse.microprofile.openapi.ModelReader";
+
+    /**
+     * Event of the reading and merging of a static file, with the fields {@link #APPLICATION}, {@link #LOCATION} and
+     * {@link #BYTES}.
+     * 
+     */
+    public static final String STATIC_FILE = "org.eclipse.microprofile.openapi.StaticFile";
+
+    /**
+     * Event of the processing of the annotations, with the fields {@link #APPLICATION} and {@link #CLASSES}.
+     * 
+     */
+    public static final String SCAN = "org.eclipse.microprofile.openapi.Scan";
+
+    /**
+     * Event of the filtering of the model by an {@link OASFilter}, with the fields {@link #APPLICATION},
+     * {@link #CLASS_NAME} and {@link #CALLBACKS}. When several filters are registered, one event is emitted per
+     * filter, each spanning the single walk of the model and counting the calls made to its own filter.
+     * 
+     */
+    public static final String FILTER = "org.eclipse.microprofile.openapi.Filter";
+
+    /**
+     * Event of a single call to a method of an {@link OASFilter}, with the fields {@link #APPLICATION},
+     * {@link #CLASS_NAME}, {@link #METHOD} and {@link #ELEMENT_TYPE}. Only emitted when
+     * {@link OASConfig#EVENTS_FILTER_CALLBACKS} is <code>true</code>.
+     * 
+     */
+    public static final String FILTER_CALLBACK = "org.eclipse.microprofile.openapi.FilterCallback";
+
+    /**
+     * Field with the name of the application the document is processed for.
+     * 
+     */
+    public static final String APPLICATION = "application";
+
+    /**
+     * Field with the fully qualified name of the model reader or filter class the event is emitted for.
+     * 
+     */
+    public static final String CLASS_NAME = "className";
+
+    /**
+     * Field with the location of the static file.
+     * 
+     */
+    public static final String LOCATION = "location";
+
+    /**
+     * Field with the size in bytes of the static file.
+     * 
+     */
+    public static final String BYTES = "bytes";
+
+    /**
+     * Field with the number of classes whose annotations were processed.
+     * 
+     */
+    public static final String CLASSES = "classes";
+
+    /**
+     * Field with the number of calls made to the methods of the filter.
+     * 
+     */
+    public static final String CALLBACKS = "callbacks";
+
+    /**
+     * Field with the name of the method of the filter, for example <code>filterSchema</code>.
+     * 
+     */
+    public static final String METHOD = "method";
+
+    /**
+     * Field with the simple name of the model interface of the filtered element, for example <code>Schema</code>.
+     * 
+     */
+    public static final String ELEMENT_TYPE = "elementType";
+
+}
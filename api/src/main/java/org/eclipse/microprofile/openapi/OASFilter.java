@@ -38,6 +38,10 @@ import org.eclipse.microprofile.openapi.models.tags.Tag;
  * The registration of this filter is controlled by setting the key <b>mp.openapi.filter</b> using
  * one of the configuration sources specified in <a href="https://github.com/eclipse/microprofile-config">MicroProfile Config</a>.
  * The value is the fully qualified name of the filter implementation, which needs to be visible to the application's classloader.
+ * <p>
+ * The value can also be an ordered, comma-separated list of names. The filters are then applied in a single walk of the model
+ * tree: each element is passed to the filters in the order of the list, the element returned by one filter being passed to the
+ * next, until a filter returns null and the element is removed.
  *
  */
 public interface OASFilter {    
@@ -0,0 +1,151 @@
+/**
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi;
+
+/**
+ * Names of the metrics that vendors register in MicroProfile Metrics for the processing of the document and for the
+ * <code>/openapi</code> endpoint, when {@link OASConfig#METRICS_ENABLED} is not <code>false</code>.
+ * <p>
+ * All the metrics are registered in the {@value #SCOPE} scope.
+ */
+public final class OASMetrics {
+
+    private OASMetrics(){}
+
+    /**
+     * Scope of the registry in which the metrics are registered.
+     * 
+     */
+    public static final String SCOPE = "openapi";
+
+    /**
+     * Timer of the processing phases of the document, tagged with {@link #PHASE_TAG}.
+     * 
+     */
+    public static final String PROCESSING_DURATION = "openapi.processing.duration";
+
+    /**
+     * Gauge of the number of paths in the processed document.
+     * 
+     */
+    public static final String DOCUMENT_PATHS = "openapi.document.paths";
+
+    /**
+     * Gauge of the number of operations in the processed document.
+     * 
+     */
+    public static final String DOCUMENT_OPERATIONS = "openapi.document.operations";
+
+    /**
+     * Gauge of the number of schemas in the components of the processed document.
+     * 
+     */
+    public static final String DOCUMENT_SCHEMAS = "openapi.document.schemas";
+
+    /**
+     * Gauge of the size in bytes of the rendered document, tagged with {@link #FORMAT_TAG} and {@link #ENCODING_TAG}.
+     * 
+     */
+    public static final String DOCUMENT_SIZE = "openapi.document.size";
+
+    /**
+     * Counter of the requests served from a rendered document that was already available.
+     * 
+     */
+    public static final String CACHE_HITS = "openapi.cache.hits";
+
+    /**
+     * Counter of the requests that required the document to be rendered.
+     * 
+     */
+    public static final String CACHE_MISSES = "openapi.cache.misses";
+
+    /**
+     * Timer of the requests to the <code>/openapi</code> endpoint, tagged with {@link #FORMAT_TAG}.
+     * 
+     */
+    public static final String REQUEST_DURATION = "openapi.request.duration";
+
+    /**
+     * Name of the tag of {@link #PROCESSING_DURATION} that identifies the phase.
+     * 
+     */
+    public static final String PHASE_TAG = "phase";
+
+    /**
+     * Name of the tag that identifies the format of the document: <code>json</code>, <code>yaml</code> or
+     * <code>cbor</code>.
+     * 
+     */
+    public static final String FORMAT_TAG = "format";
+
+    /**
+     * Name of the tag that identifies the content coding of the document: <code>identity</code>, <code>gzip</code> or
+     * <code>deflate</code>.
+     * 
+     */
+    public static final String ENCODING_TAG = "encoding";
+
+    /**
+     * Name of the tag that identifies the application when several applications are deployed: the name of its
+     * deployment, without the extension of the archive.
+     * 
+     */
+    public static final String APPLICATION_TAG = "application";
+
+    /**
+     * Phase in which the configuration is read.
+     * 
+     */
+    public static final String PHASE_CONFIG = "config";
+
+    /**
+     * Phase in which the {@link OASModelReader} is called.
+     * 
+     */
+    public static final String PHASE_MODEL_READER = "model-reader";
+
+    /**
+     * Phase in which the static file is read and merged.
+     * 
+     */
+    public static final String PHASE_STATIC_FILE = "static-file";
+
+    /**
+     * Phase in which the annotations are processed.
+     * 
+     */
+    public static final String PHASE_SCAN = "scan";
+
+    /**
+     * Phase in which the model is filtered by the {@link OASFilter}.
+     * 
+     */
+    public static final String PHASE_FILTER = "filter";
+
+    /**
+     * Phase in which the unused components are removed.
+     * 
+     */
+    public static final String PHASE_PRUNE = "prune";
+
+    /**
+     * Phase in which the document is rendered in a format.
+     * 
+     */
+    public static final String PHASE_SERIALIZATION = "serialization";
+
+}
@@ -15,6 +15,10 @@
  */
 package org.eclipse.microprofile.openapi;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 
 /**
@@ -26,6 +30,8 @@ import org.eclipse.microprofile.openapi.models.OpenAPI;
  * The registration of this model reader is controlled by setting the key <b>mp.openapi.model.reader</b> using
  * one of the configuration sources specified in <a href="https://github.com/eclipse/microprofile-config">MicroProfile Config</a>.
  * The value is the fully qualified name of the model reader implementation, which needs to be visible to the application's classloader.
+ * The value can also be a comma-separated list of names, in which case the readers are called concurrently and their models are
+ * merged in the order of the list, each one overriding the conflicting elements of the previous ones.
  */
 public interface OASModelReader {
 
@@ -36,4 +42,20 @@ public interface OASModelReader {
      * @return the OpenAPI model to be used by the vendor
      */
     OpenAPI buildModel();
+
+    /**
+     * This method is called by the vendor's OpenAPI processing framework instead of {@link #buildModel()}, so that a
+     * reader that has to wait, for example for fragments loaded from disk, does not block the rest of the processing.
+     * The vendor can read the static file and process the annotations while the returned stage completes, and merges
+     * the results in the order defined by the processing rules once all of them are available.
+     * <p>
+     * The default implementation calls {@link #buildModel()} with the given executor. Readers that override this method
+     * should do their work asynchronously, using the given executor or their own.
+     * 
+     * @param executor an executor provided by the vendor, which does not run tasks on the calling thread
+     * @return a stage completed with the OpenAPI model to be used by the vendor, as {@link #buildModel()} would return it
+     */
+    default CompletionStage<OpenAPI> buildModelAsync(Executor executor) {
+        return CompletableFuture.supplyAsync(this::buildModel, executor);
+    }
 }
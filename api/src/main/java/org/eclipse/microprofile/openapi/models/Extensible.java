@@ -30,7 +30,8 @@ public interface Extensible<T extends Extensible<T>> {
     /**
      * Returns the extensions property from an Extensible instance.
      *
-     * @return a map containing keys which start with "x-" and values which provide additional information
+     * @return a map containing keys which start with "x-" and values which provide additional information, or null if
+     *         no extension has been set or added
      **/
     Map<String, Object> getExtensions();
 
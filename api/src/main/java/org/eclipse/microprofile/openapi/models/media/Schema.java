@@ -20,6 +20,7 @@ package org.eclipse.microprofile.openapi.models.media;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 import org.eclipse.microprofile.openapi.models.Constructible;
 import org.eclipse.microprofile.openapi.models.Extensible;
@@ -197,6 +198,71 @@ public interface Schema extends Extensible<Schema>, Constructible, Reference<Sch
         return this;
     }
 
+    /**
+     * Returns whether the multipleOf property of this Schema instance is set.
+     *
+     * @return true if getMultipleOf() returns a non-null value
+     **/
+    default boolean hasMultipleOf() {
+        return getMultipleOf() != null;
+    }
+
+    /**
+     * Returns the multipleOf property of this Schema instance as a long, without boxing or BigDecimal arithmetic when
+     * overridden by the implementation. The value is exact only if {@link #isMultipleOfLongExact()} returns true.
+     *
+     * @return the multipleOf property as returned by {@link BigDecimal#longValue()}, or 0 if the property is not set
+     **/
+    default long getMultipleOfAsLong() {
+        BigDecimal multipleOf = getMultipleOf();
+        return multipleOf == null ? 0L : multipleOf.longValue();
+    }
+
+    /**
+     * Returns whether {@link #getMultipleOfAsLong()} represents the multipleOf property of this Schema instance exactly.
+     *
+     * @return true if the multipleOf property is set, has no fractional part and fits in a long
+     **/
+    default boolean isMultipleOfLongExact() {
+        BigDecimal multipleOf = getMultipleOf();
+        if (multipleOf == null) {
+            return false;
+        }
+        try {
+            multipleOf.longValueExact();
+            return true;
+        }
+        catch (ArithmeticException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the multipleOf property of this Schema instance as a double, without boxing or BigDecimal arithmetic when
+     * overridden by the implementation. The value is exact only if {@link #isMultipleOfDoubleExact()} returns true.
+     *
+     * @return the multipleOf property as returned by {@link BigDecimal#doubleValue()}, or {@link Double#NaN} if the
+     *         property is not set
+     **/
+    default double getMultipleOfAsDouble() {
+        BigDecimal multipleOf = getMultipleOf();
+        return multipleOf == null ? Double.NaN : multipleOf.doubleValue();
+    }
+
+    /**
+     * Returns whether {@link #getMultipleOfAsDouble()} represents the multipleOf property of this Schema instance exactly.
+     *
+     * @return true if the multipleOf property is set and can be represented as a finite double without rounding
+     **/
+    default boolean isMultipleOfDoubleExact() {
+        BigDecimal multipleOf = getMultipleOf();
+        if (multipleOf == null) {
+            return false;
+        }
+        double value = multipleOf.doubleValue();
+        return !Double.isInfinite(value) && new BigDecimal(value).compareTo(multipleOf) == 0;
+    }
+
     /**
      * Returns the maximum property from this Schema instance.
      *
@@ -222,6 +288,71 @@ public interface Schema extends Extensible<Schema>, Constructible, Reference<Sch
         return this;
     }
 
+    /**
+     * Returns whether the maximum property of this Schema instance is set.
+     *
+     * @return true if getMaximum() returns a non-null value
+     **/
+    default boolean hasMaximum() {
+        return getMaximum() != null;
+    }
+
+    /**
+     * Returns the maximum property of this Schema instance as a long, without boxing or BigDecimal arithmetic when
+     * overridden by the implementation. The value is exact only if {@link #isMaximumLongExact()} returns true.
+     *
+     * @return the maximum property as returned by {@link BigDecimal#longValue()}, or 0 if the property is not set
+     **/
+    default long getMaximumAsLong() {
+        BigDecimal maximum = getMaximum();
+        return maximum == null ? 0L : maximum.longValue();
+    }
+
+    /**
+     * Returns whether {@link #getMaximumAsLong()} represents the maximum property of this Schema instance exactly.
+     *
+     * @return true if the maximum property is set, has no fractional part and fits in a long
+     **/
+    default boolean isMaximumLongExact() {
+        BigDecimal maximum = getMaximum();
+        if (maximum == null) {
+            return false;
+        }
+        try {
+            maximum.longValueExact();
+            return true;
+        }
+        catch (ArithmeticException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the maximum property of this Schema instance as a double, without boxing or BigDecimal arithmetic when
+     * overridden by the implementation. The value is exact only if {@link #isMaximumDoubleExact()} returns true.
+     *
+     * @return the maximum property as returned by {@link BigDecimal#doubleValue()}, or {@link Double#NaN} if the
+     *         property is not set
+     **/
+    default double getMaximumAsDouble() {
+        BigDecimal maximum = getMaximum();
+        return maximum == null ? Double.NaN : maximum.doubleValue();
+    }
+
+    /**
+     * Returns whether {@link #getMaximumAsDouble()} represents the maximum property of this Schema instance exactly.
+     *
+     * @return true if the maximum property is set and can be represented as a finite double without rounding
+     **/
+    default boolean isMaximumDoubleExact() {
+        BigDecimal maximum = getMaximum();
+        if (maximum == null) {
+            return false;
+        }
+        double value = maximum.doubleValue();
+        return !Double.isInfinite(value) && new BigDecimal(value).compareTo(maximum) == 0;
+    }
+
     /**
      * Returns the exclusiveMaximum property from this Schema instance.
      *
@@ -272,6 +403,71 @@ public interface Schema extends Extensible<Schema>, Constructible, Reference<Sch
         return this;
     }
 
+    /**
+     * Returns whether the minimum property of this Schema instance is set.
+     *
+     * @return true if getMinimum() returns a non-null value
+     **/
+    default boolean hasMinimum() {
+        return getMinimum() != null;
+    }
+
+    /**
+     * Returns the minimum property of this Schema instance as a long, without boxing or BigDecimal arithmetic when
+     * overridden by the implementation. The value is exact only if {@link #isMinimumLongExact()} returns true.
+     *
+     * @return the minimum property as returned by {@link BigDecimal#longValue()}, or 0 if the property is not set
+     **/
+    default long getMinimumAsLong() {
+        BigDecimal minimum = getMinimum();
+        return minimum == null ? 0L : minimum.longValue();
+    }
+
+    /**
+     * Returns whether {@link #getMinimumAsLong()} represents the minimum property of this Schema instance exactly.
+     *
+     * @return true if the minimum property is set, has no fractional part and fits in a long
+     **/
+    default boolean isMinimumLongExact() {
+        BigDecimal minimum = getMinimum();
+        if (minimum == null) {
+            return false;
+        }
+        try {
+            minimum.longValueExact();
+            return true;
+        }
+        catch (ArithmeticException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the minimum property of this Schema instance as a double, without boxing or BigDecimal arithmetic when
+     * overridden by the implementation. The value is exact only if {@link #isMinimumDoubleExact()} returns true.
+     *
+     * @return the minimum property as returned by {@link BigDecimal#doubleValue()}, or {@link Double#NaN} if the
+     *         property is not set
+     **/
+    default double getMinimumAsDouble() {
+        BigDecimal minimum = getMinimum();
+        return minimum == null ? Double.NaN : minimum.doubleValue();
+    }
+
+    /**
+     * Returns whether {@link #getMinimumAsDouble()} represents the minimum property of this Schema instance exactly.
+     *
+     * @return true if the minimum property is set and can be represented as a finite double without rounding
+     **/
+    default boolean isMinimumDoubleExact() {
+        BigDecimal minimum = getMinimum();
+        if (minimum == null) {
+            return false;
+        }
+        double value = minimum.doubleValue();
+        return !Double.isInfinite(value) && new BigDecimal(value).compareTo(minimum) == 0;
+    }
+
     /**
      * Returns the exclusiveMinimum property from this Schema instance.
      *
@@ -324,6 +520,16 @@ public interface Schema extends Extensible<Schema>, Constructible, Reference<Sch
         return this;
     }
 
+    /**
+     * Returns the maxLength property of this Schema instance as an int, without unboxing when overridden by the implementation.
+     *
+     * @return the maxLength property, or -1 if the property is not set
+     **/
+    default int getMaxLengthAsInt() {
+        Integer maxLength = getMaxLength();
+        return maxLength == null ? -1 : maxLength;
+    }
+
     /**
      * Returns the minLength property from this Schema instance.
      * <p>
@@ -351,6 +557,16 @@ public interface Schema extends Extensible<Schema>, Constructible, Reference<Sch
         return this;
     }
 
+    /**
+     * Returns the minLength property of this Schema instance as an int, without unboxing when overridden by the implementation.
+     *
+     * @return the minLength property, or -1 if the property is not set
+     **/
+    default int getMinLengthAsInt() {
+        Integer minLength = getMinLength();
+        return minLength == null ? -1 : minLength;
+    }
+
     /**
      * Returns the pattern property from this Schema instance.
      *
@@ -376,6 +592,21 @@ public interface Schema extends Extensible<Schema>, Constructible, Reference<Sch
         return this;
     }
 
+    /**
+     * Returns the pattern property from this Schema instance, compiled with {@link Pattern#compile(String)}.
+     * <p>
+     * The compiled pattern is cached: the same instance is returned until the pattern property is changed with
+     * {@link #setPattern(String)} or {@link #pattern(String)}.
+     * <p>
+     * The pattern is always compiled with <code>java.util.regex</code>, a backtracking engine, whatever the value of
+     * the {@link org.eclipse.microprofile.openapi.OASConfig#PATTERN_ENGINE mp.openapi.pattern.engine} configuration
+     * property, which only applies to the values matched by the vendor.
+     *
+     * @return the compiled pattern property, or null if the pattern property is not set
+     * @throws java.util.regex.PatternSyntaxException if the pattern property is not a valid regular expression
+     **/
+    Pattern getCompiledPattern();
+
     /**
      * Returns the maxItems property from this Schema instance.
      * <p>
@@ -403,6 +634,16 @@ public interface Schema extends Extensible<Schema>, Constructible, Reference<Sch
         return this;
     }
 
+    /**
+     * Returns the maxItems property of this Schema instance as an int, without unboxing when overridden by the implementation.
+     *
+     * @return the maxItems property, or -1 if the property is not set
+     **/
+    default int getMaxItemsAsInt() {
+        Integer maxItems = getMaxItems();
+        return maxItems == null ? -1 : maxItems;
+    }
+
     /**
      * Returns the minItems property from this Schema instance.
      * <p>
@@ -430,6 +671,16 @@ public interface Schema extends Extensible<Schema>, Constructible, Reference<Sch
         return this;
     }
 
+    /**
+     * Returns the minItems property of this Schema instance as an int, without unboxing when overridden by the implementation.
+     *
+     * @return the minItems property, or -1 if the property is not set
+     **/
+    default int getMinItemsAsInt() {
+        Integer minItems = getMinItems();
+        return minItems == null ? -1 : minItems;
+    }
+
     /**
      * Returns the uniqueItems property from this Schema instance.
      *
@@ -482,6 +733,16 @@ public interface Schema extends Extensible<Schema>, Constructible, Reference<Sch
         return this;
     }
 
+    /**
+     * Returns the maxProperties property of this Schema instance as an int, without unboxing when overridden by the implementation.
+     *
+     * @return the maxProperties property, or -1 if the property is not set
+     **/
+    default int getMaxPropertiesAsInt() {
+        Integer maxProperties = getMaxProperties();
+        return maxProperties == null ? -1 : maxProperties;
+    }
+
     /**
      * Returns the minProperties property from this Schema instance.
      * <p>
@@ -509,6 +770,16 @@ public interface Schema extends Extensible<Schema>, Constructible, Reference<Sch
         return this;
     }
 
+    /**
+     * Returns the minProperties property of this Schema instance as an int, without unboxing when overridden by the implementation.
+     *
+     * @return the minProperties property, or -1 if the property is not set
+     **/
+    default int getMinPropertiesAsInt() {
+        Integer minProperties = getMinProperties();
+        return minProperties == null ? -1 : minProperties;
+    }
+
     /**
      * Returns the required property from this Schema instance.
      *
@@ -18,6 +18,9 @@
  * <p>
  * The behaviour of methods inherited from java.lang.Object are undefined by the MicroProfile OpenAPI specification.
  * <p>
+ * List and Map properties are not allocated until they are first set or added to. Their getter methods return null
+ * on a newly created object, and methods that read from or remove from an unset property behave as if it was empty.
+ * <p>
  * Example:
  * <pre>
  * public class MyOASModelReaderImpl implements OASModelReader {
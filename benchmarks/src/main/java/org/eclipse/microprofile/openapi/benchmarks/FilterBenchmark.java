@@ -0,0 +1,110 @@
+/**
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.filter.AirlinesOASFilter;
+import org.eclipse.microprofile.openapi.filter.ChainedOASFilter;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.reader.MyOASModelReaderImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of running an {@link OASFilter} over a complete model. A filter modifies the model, so every invocation builds
+ * a fresh one. Building a model only takes a few microseconds, too little for a per-invocation setup, so it is part of
+ * each benchmark; the <code>build</code> benchmarks measure it alone and their score is to be subtracted from the
+ * score of the benchmarks on the same model.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FilterBenchmark {
+
+    private final FilterWalker noop = new FilterWalker(new OASFilter() { });
+    private final FilterWalker airlinesFilter = new FilterWalker(new AirlinesOASFilter());
+    private final FilterWalker chainedFilter = new FilterWalker(new ChainedOASFilter());
+    private final FilterWalker fusedFilters = new FilterWalker(new AirlinesOASFilter(), new ChainedOASFilter());
+
+    /**
+     * Baseline of the benchmarks on the airlines model.
+     */
+    @Benchmark
+    public OpenAPI buildAirlines() {
+        return airlines();
+    }
+
+    /**
+     * Baseline of the benchmarks on the petstore model.
+     */
+    @Benchmark
+    public OpenAPI buildPetstore() {
+        return PetStoreModel.build();
+    }
+
+    /**
+     * The traversal alone: every filter method returns its argument unchanged.
+     */
+    @Benchmark
+    public OpenAPI noopFilterAirlines() {
+        return noop.walk(airlines());
+    }
+
+    @Benchmark
+    public OpenAPI noopFilterPetstore() {
+        return noop.walk(PetStoreModel.build());
+    }
+
+    /**
+     * The filter of the TCK, which renames, adds and removes elements.
+     */
+    @Benchmark
+    public OpenAPI airlinesFilter() {
+        return airlinesFilter.walk(airlines());
+    }
+
+    /**
+     * The two filters of the TCK list, applied in a single walk.
+     */
+    @Benchmark
+    public OpenAPI fusedFilters() {
+        return fusedFilters.walk(airlines());
+    }
+
+    /**
+     * The same two filters, with one walk per filter, as a composite filter re-walking the model would do.
+     */
+    @Benchmark
+    public OpenAPI separateFilters() {
+        return chainedFilter.walk(airlinesFilter.walk(airlines()));
+    }
+
+    private static OpenAPI airlines() {
+        return new MyOASModelReaderImpl().buildModel();
+    }
+}
@@ -0,0 +1,309 @@
+/**
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.benchmarks;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.Paths;
+import org.eclipse.microprofile.openapi.models.callbacks.Callback;
+import org.eclipse.microprofile.openapi.models.headers.Header;
+import org.eclipse.microprofile.openapi.models.links.Link;
+import org.eclipse.microprofile.openapi.models.media.Content;
+import org.eclipse.microprofile.openapi.models.media.Encoding;
+import org.eclipse.microprofile.openapi.models.media.MediaType;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.eclipse.microprofile.openapi.models.parameters.RequestBody;
+import org.eclipse.microprofile.openapi.models.responses.APIResponse;
+import org.eclipse.microprofile.openapi.models.responses.APIResponses;
+import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
+import org.eclipse.microprofile.openapi.models.servers.Server;
+import org.eclipse.microprofile.openapi.models.tags.Tag;
+
+/**
+ * Applies an {@link OASFilter} to a model the way section "OASFilter" of the specification describes it: every
+ * element is visited once, children before their parent, and an element for which the filter returns
+ * <code>null</code> is removed from its parent. {@link OASFilter#filterOpenAPI(OpenAPI)} is called last.
+ * <p>
+ * Several filters are applied in the same walk, as for a list in <code>mp.openapi.filter</code>: each element is
+ * passed to the filters in order until one of them returns <code>null</code>.
+ * <p>
+ * The walker is written only against the API so that the filter benchmarks measure the same traversal whichever
+ * implementation of the model is on the classpath. It is not meant to replace the traversal of an implementation.
+ */
+public final class FilterWalker {
+
+    private final OASFilter filter;
+
+    public FilterWalker(OASFilter... filters) {
+        this.filter = filters.length == 1 ? filters[0] : new Chain(filters);
+    }
+
+    /**
+     * Filters the given model in place.
+     *
+     * @param openAPI the model to filter
+     * @return the same model, for chaining
+     */
+    public OpenAPI walk(OpenAPI openAPI) {
+        openAPI.setServers(filterList(openAPI.getServers(), filter::filterServer));
+        openAPI.setTags(filterList(openAPI.getTags(), filter::filterTag));
+        Paths paths = openAPI.getPaths();
+        if (paths != null) {
+            paths.setPathItems(filterMap(paths.getPathItems(), this::pathItem));
+        }
+        Components components = openAPI.getComponents();
+        if (components != null) {
+            components(components);
+        }
+        filter.filterOpenAPI(openAPI);
+        return openAPI;
+    }
+
+    private void components(Components components) {
+        components.setSchemas(filterMap(components.getSchemas(), this::schema));
+        components.setResponses(filterMap(components.getResponses(), this::apiResponse));
+        components.setParameters(filterMap(components.getParameters(), this::parameter));
+        components.setRequestBodies(filterMap(components.getRequestBodies(), this::requestBody));
+        components.setHeaders(filterMap(components.getHeaders(), this::header));
+        components.setSecuritySchemes(filterMap(components.getSecuritySchemes(), filter::filterSecurityScheme));
+        components.setLinks(filterMap(components.getLinks(), this::link));
+        components.setCallbacks(filterMap(components.getCallbacks(), this::callback));
+    }
+
+    private PathItem pathItem(PathItem pathItem) {
+        Map<PathItem.HttpMethod, Operation> operations = pathItem.getOperations();
+        if (operations != null) {
+            // iterate over a copy, setOperation may write through to the map returned by getOperations()
+            for (Map.Entry<PathItem.HttpMethod, Operation> entry : new ArrayList<>(operations.entrySet())) {
+                pathItem.setOperation(entry.getKey(), operation(entry.getValue()));
+            }
+        }
+        pathItem.setParameters(filterList(pathItem.getParameters(), this::parameter));
+        pathItem.setServers(filterList(pathItem.getServers(), filter::filterServer));
+        return filter.filterPathItem(pathItem);
+    }
+
+    private Operation operation(Operation operation) {
+        operation.setParameters(filterList(operation.getParameters(), this::parameter));
+        if (operation.getRequestBody() != null) {
+            operation.setRequestBody(requestBody(operation.getRequestBody()));
+        }
+        APIResponses responses = operation.getResponses();
+        if (responses != null) {
+            responses.setAPIResponses(filterMap(responses.getAPIResponses(), this::apiResponse));
+        }
+        operation.setCallbacks(filterMap(operation.getCallbacks(), this::callback));
+        operation.setServers(filterList(operation.getServers(), filter::filterServer));
+        return filter.filterOperation(operation);
+    }
+
+    private Callback callback(Callback callback) {
+        callback.setPathItems(filterMap(callback.getPathItems(), this::pathItem));
+        return filter.filterCallback(callback);
+    }
+
+    private Parameter parameter(Parameter parameter) {
+        if (parameter.getSchema() != null) {
+            parameter.setSchema(schema(parameter.getSchema()));
+        }
+        content(parameter.getContent());
+        return filter.filterParameter(parameter);
+    }
+
+    private Header header(Header header) {
+        if (header.getSchema() != null) {
+            header.setSchema(schema(header.getSchema()));
+        }
+        content(header.getContent());
+        return filter.filterHeader(header);
+    }
+
+    private RequestBody requestBody(RequestBody requestBody) {
+        content(requestBody.getContent());
+        return filter.filterRequestBody(requestBody);
+    }
+
+    private APIResponse apiResponse(APIResponse apiResponse) {
+        apiResponse.setHeaders(filterMap(apiResponse.getHeaders(), this::header));
+        content(apiResponse.getContent());
+        apiResponse.setLinks(filterMap(apiResponse.getLinks(), this::link));
+        return filter.filterAPIResponse(apiResponse);
+    }
+
+    private Link link(Link link) {
+        return filter.filterLink(link);
+    }
+
+    private void content(Content content) {
+        if (content == null || content.getMediaTypes() == null) {
+            return;
+        }
+        for (MediaType mediaType : content.getMediaTypes().values()) {
+            if (mediaType.getSchema() != null) {
+                mediaType.setSchema(schema(mediaType.getSchema()));
+            }
+            Map<String, Encoding> encodings = mediaType.getEncoding();
+            if (encodings != null) {
+                for (Encoding encoding : encodings.values()) {
+                    encoding.setHeaders(filterMap(encoding.getHeaders(), this::header));
+                }
+            }
+        }
+    }
+
+    private Schema schema(Schema schema) {
+        schema.setProperties(filterMap(schema.getProperties(), this::schema));
+        if (schema.getItems() != null) {
+            schema.setItems(schema(schema.getItems()));
+        }
+        if (schema.getNot() != null) {
+            schema.setNot(schema(schema.getNot()));
+        }
+        if (schema.getAdditionalPropertiesSchema() != null) {
+            schema.setAdditionalPropertiesSchema(schema(schema.getAdditionalPropertiesSchema()));
+        }
+        schema.setAllOf(filterList(schema.getAllOf(), this::schema));
+        schema.setAnyOf(filterList(schema.getAnyOf(), this::schema));
+        schema.setOneOf(filterList(schema.getOneOf(), this::schema));
+        return filter.filterSchema(schema);
+    }
+
+    private static <T> List<T> filterList(List<T> list, Function<T, T> function) {
+        if (list == null) {
+            return null;
+        }
+        List<T> result = new ArrayList<>(list.size());
+        for (T element : list) {
+            T filtered = function.apply(element);
+            if (filtered != null) {
+                result.add(filtered);
+            }
+        }
+        return result;
+    }
+
+    private static <T> Map<String, T> filterMap(Map<String, T> map, Function<T, T> function) {
+        if (map == null) {
+            return null;
+        }
+        Map<String, T> result = new LinkedHashMap<>(map.size() * 4 / 3 + 1);
+        for (Map.Entry<String, T> entry : map.entrySet()) {
+            T filtered = function.apply(entry.getValue());
+            if (filtered != null) {
+                result.put(entry.getKey(), filtered);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Fuses a list of filters into one, so that the list costs a single walk of the model.
+     */
+    private static final class Chain implements OASFilter {
+
+        private final OASFilter[] filters;
+
+        Chain(OASFilter[] filters) {
+            this.filters = filters.clone();
+        }
+
+        private <T> T apply(T element, BiFunction<OASFilter, T, T> method) {
+            T result = element;
+            for (int i = 0; i < filters.length && result != null; i++) {
+                result = method.apply(filters[i], result);
+            }
+            return result;
+        }
+
+        @Override
+        public PathItem filterPathItem(PathItem pathItem) {
+            return apply(pathItem, OASFilter::filterPathItem);
+        }
+
+        @Override
+        public Operation filterOperation(Operation operation) {
+            return apply(operation, OASFilter::filterOperation);
+        }
+
+        @Override
+        public Parameter filterParameter(Parameter parameter) {
+            return apply(parameter, OASFilter::filterParameter);
+        }
+
+        @Override
+        public Header filterHeader(Header header) {
+            return apply(header, OASFilter::filterHeader);
+        }
+
+        @Override
+        public RequestBody filterRequestBody(RequestBody requestBody) {
+            return apply(requestBody, OASFilter::filterRequestBody);
+        }
+
+        @Override
+        public APIResponse filterAPIResponse(APIResponse apiResponse) {
+            return apply(apiResponse, OASFilter::filterAPIResponse);
+        }
+
+        @Override
+        public Schema filterSchema(Schema schema) {
+            return apply(schema, OASFilter::filterSchema);
+        }
+
+        @Override
+        public SecurityScheme filterSecurityScheme(SecurityScheme securityScheme) {
+            return apply(securityScheme, OASFilter::filterSecurityScheme);
+        }
+
+        @Override
+        public Server filterServer(Server server) {
+            return apply(server, OASFilter::filterServer);
+        }
+
+        @Override
+        public Tag filterTag(Tag tag) {
+            return apply(tag, OASFilter::filterTag);
+        }
+
+        @Override
+        public Link filterLink(Link link) {
+            return apply(link, OASFilter::filterLink);
+        }
+
+        @Override
+        public Callback filterCallback(Callback callback) {
+            return apply(callback, OASFilter::filterCallback);
+        }
+
+        @Override
+        public void filterOpenAPI(OpenAPI openAPI) {
+            for (OASFilter filter : filters) {
+                filter.filterOpenAPI(openAPI);
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.benchmarks;
+
+import static org.eclipse.microprofile.openapi.OASFactory.createObject;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.Paths;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Cost of reading a large model: looking up and iterating path items, and following chains of schema references
+ * through the components.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NavigationBenchmark {
+
+    private static final String REF_PREFIX = "#/components/schemas/";
+
+    @Param({"10", "1000", "10000"})
+    private int size;
+
+    private Paths paths;
+    private Components components;
+    private String lastPath;
+    private String addedPath;
+
+    @Setup
+    public void setUp() {
+        paths = createObject(Paths.class);
+        for (int i = 0; i < size; i++) {
+            paths.addPathItem(path(i), createObject(PathItem.class)
+                .GET(createObject(Operation.class).operationId("get" + i)));
+        }
+        lastPath = path(size - 1);
+        addedPath = path(size);
+
+        // Schema0 -> Schema1 -> ... -> Schema(size - 1), which is the only one with a type
+        components = createObject(Components.class);
+        for (int i = 0; i < size - 1; i++) {
+            components.addSchema("Schema" + i, createObject(Schema.class).ref("Schema" + (i + 1)));
+        }
+        components.addSchema("Schema" + (size - 1), createObject(Schema.class).type(Schema.SchemaType.OBJECT));
+    }
+
+    @Benchmark
+    public PathItem getPathItem() {
+        return paths.getPathItem(lastPath);
+    }
+
+    @Benchmark
+    public boolean hasPathItem() {
+        return paths.hasPathItem(lastPath);
+    }
+
+    @Benchmark
+    public void iteratePathItems(Blackhole blackhole) {
+        for (Map.Entry<String, PathItem> entry : paths.getPathItems().entrySet()) {
+            blackhole.consume(entry.getValue().getGET());
+        }
+    }
+
+    /**
+     * Adds a path item to a map that already holds {@link #size} path items, and removes it in the same invocation
+     * so that the size of the map does not depend on the number of invocations.
+     */
+    @Benchmark
+    public Paths addPathItem() {
+        paths.addPathItem(addedPath, createObject(PathItem.class));
+        paths.removePathItem(addedPath);
+        return paths;
+    }
+
+    @Benchmark
+    public Schema resolveReferenceChain() {
+        Map<String, Schema> schemas = components.getSchemas();
+        Schema schema = schemas.get("Schema0");
+        while (schema.getRef() != null) {
+            schema = schemas.get(schema.getRef().substring(REF_PREFIX.length()));
+        }
+        return schema;
+    }
+
+    private static String path(int i) {
+        return "/resources/" + i + "/items/{id}";
+    }
+}
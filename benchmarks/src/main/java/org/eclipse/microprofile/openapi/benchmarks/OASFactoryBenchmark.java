@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.responses.APIResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of {@link OASFactory#createObject(Class)}, which includes the lookup of the
+ * {@link org.eclipse.microprofile.openapi.spi.OASFactoryResolver} and the allocation of an empty model element.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OASFactoryBenchmark {
+
+    @Benchmark
+    public Schema createSchema() {
+        return OASFactory.createObject(Schema.class);
+    }
+
+    @Benchmark
+    public Operation createOperation() {
+        return OASFactory.createObject(Operation.class);
+    }
+
+    @Benchmark
+    public PathItem createPathItem() {
+        return OASFactory.createObject(PathItem.class);
+    }
+
+    @Benchmark
+    public APIResponse createAPIResponse() {
+        return OASFactory.createObject(APIResponse.class);
+    }
+
+    @Benchmark
+    public OpenAPI createOpenAPI() {
+        return OASFactory.createObject(OpenAPI.class);
+    }
+}
@@ -0,0 +1,91 @@
+/**
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.benchmarks;
+
+import static org.eclipse.microprofile.openapi.OASFactory.createObject;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of the <code>pattern</code> of a {@link Schema}: compiling it on every use versus
+ * {@link Schema#getCompiledPattern()}, and matching with <code>java.util.regex</code>. The patterns are the ones of
+ * the TCK for <code>mp.openapi.pattern.engine</code>; the results for <code>^(a+)+$</code> on non matching input of
+ * growing length are the baseline against which a linear-time engine is compared.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PatternBenchmark {
+
+    @Param({"^[A-Z]{3}-\\d{4}$", "(?:ab|cd)*[^\\s]?", "^(a+)+$"})
+    private String pattern;
+
+    /**
+     * Length of the input. The input is made of <code>a</code> followed by a single <code>!</code>, so that
+     * none of the patterns match the whole input: {@link #match()} uses {@link java.util.regex.Matcher#matches()},
+     * anchored at the start of the input, and the engine has to try every way of matching the run of <code>a</code>
+     * before it fails.
+     */
+    @Param({"8", "16", "24"})
+    private int length;
+
+    private Schema schema;
+    private Pattern compiled;
+    private String input;
+
+    @Setup
+    public void setUp() {
+        schema = createObject(Schema.class).pattern(pattern);
+        compiled = Pattern.compile(pattern);
+        StringBuilder builder = new StringBuilder(length + 1);
+        for (int i = 0; i < length; i++) {
+            builder.append('a');
+        }
+        input = builder.append('!').toString();
+    }
+
+    @Benchmark
+    public Pattern compile() {
+        return Pattern.compile(schema.getPattern());
+    }
+
+    @Benchmark
+    public Pattern cachedCompile() {
+        return schema.getCompiledPattern();
+    }
+
+    @Benchmark
+    public boolean match() {
+        return compiled.matcher(input).matches();
+    }
+}
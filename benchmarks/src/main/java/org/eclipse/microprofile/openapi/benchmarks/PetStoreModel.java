@@ -0,0 +1,184 @@
+/**
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.benchmarks;
+
+import static org.eclipse.microprofile.openapi.OASFactory.createObject;
+
+import java.math.BigDecimal;
+
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.Paths;
+import org.eclipse.microprofile.openapi.models.info.Info;
+import org.eclipse.microprofile.openapi.models.media.Content;
+import org.eclipse.microprofile.openapi.models.media.MediaType;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.media.Schema.SchemaType;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.eclipse.microprofile.openapi.models.parameters.RequestBody;
+import org.eclipse.microprofile.openapi.models.responses.APIResponse;
+import org.eclipse.microprofile.openapi.models.responses.APIResponses;
+import org.eclipse.microprofile.openapi.models.servers.Server;
+import org.eclipse.microprofile.openapi.models.tags.Tag;
+
+/**
+ * Builds, through {@link org.eclipse.microprofile.openapi.OASFactory} only, a model with the shape of the petstore
+ * application of the TCK. The airlines application already comes with a model reader, the petstore does not.
+ */
+public final class PetStoreModel {
+
+    private static final String JSON = "application/json";
+
+    private PetStoreModel() {
+    }
+
+    public static OpenAPI build() {
+        return createObject(OpenAPI.class)
+            .openapi("3.0.3")
+            .info(createObject(Info.class).title("Java EE Pet Store").version("1.0.0"))
+            .addServer(createObject(Server.class).url("http://petstore.example.com/v2"))
+            .addTag(createObject(Tag.class).name("pet").description("Everything about your Pets"))
+            .addTag(createObject(Tag.class).name("store").description("Access to Petstore orders"))
+            .addTag(createObject(Tag.class).name("user").description("Operations about user"))
+            .paths(paths())
+            .components(components());
+    }
+
+    private static Paths paths() {
+        return createObject(Paths.class)
+            .addPathItem("/pet", createObject(PathItem.class)
+                .POST(operation("pet", "addPet", "201").requestBody(body("Pet")))
+                .PUT(operation("pet", "updatePet", "200").requestBody(body("Pet"))))
+            .addPathItem("/pet/{petId}", createObject(PathItem.class)
+                .addParameter(pathParameter("petId", SchemaType.INTEGER))
+                .GET(operation("pet", "getPetById", "200", "Pet"))
+                .POST(operation("pet", "updatePetWithForm", "204"))
+                .DELETE(operation("pet", "deletePet", "204")))
+            .addPathItem("/pet/{petId}/download", createObject(PathItem.class)
+                .addParameter(pathParameter("petId", SchemaType.INTEGER))
+                .GET(operation("pet", "downloadFile", "200")))
+            .addPathItem("/pet/findByStatus", createObject(PathItem.class)
+                .GET(operation("pet", "findPetsByStatus", "200", "Pet")
+                    .addParameter(queryParameter("status"))))
+            .addPathItem("/pet/findByTags", createObject(PathItem.class)
+                .GET(operation("pet", "findPetsByTags", "200", "Pet")
+                    .addParameter(queryParameter("tags"))
+                    .deprecated(true)))
+            .addPathItem("/store/inventory", createObject(PathItem.class)
+                .GET(operation("store", "getInventory", "200")))
+            .addPathItem("/store/order", createObject(PathItem.class)
+                .POST(operation("store", "placeOrder", "200", "Order").requestBody(body("Order"))))
+            .addPathItem("/store/order/{orderId}", createObject(PathItem.class)
+                .addParameter(pathParameter("orderId", SchemaType.INTEGER))
+                .GET(operation("store", "getOrderById", "200", "Order"))
+                .DELETE(operation("store", "deleteOrder", "204")))
+            .addPathItem("/user", createObject(PathItem.class)
+                .POST(operation("user", "createUser", "201").requestBody(body("User"))))
+            .addPathItem("/user/login", createObject(PathItem.class)
+                .GET(operation("user", "loginUser", "200")
+                    .addParameter(queryParameter("username"))
+                    .addParameter(queryParameter("password"))))
+            .addPathItem("/user/{username}", createObject(PathItem.class)
+                .addParameter(pathParameter("username", SchemaType.STRING))
+                .GET(operation("user", "getUserByName", "200", "User"))
+                .PUT(operation("user", "updateUser", "200").requestBody(body("User")))
+                .DELETE(operation("user", "deleteUser", "204")));
+    }
+
+    private static Components components() {
+        Schema pet = object()
+            .addRequired("name")
+            .addProperty("id", createObject(Schema.class).type(SchemaType.INTEGER).format("int64"))
+            .addProperty("category", ref("Category"))
+            .addProperty("name", createObject(Schema.class).type(SchemaType.STRING).example("doggie"))
+            .addProperty("tags", createObject(Schema.class).type(SchemaType.ARRAY).items(ref("Tag")))
+            .addProperty("status", createObject(Schema.class).type(SchemaType.STRING)
+                .addEnumeration("available").addEnumeration("pending").addEnumeration("sold"));
+        return createObject(Components.class)
+            .addSchema("Pet", pet)
+            .addSchema("Cat", object().addAllOf(ref("Pet")).addProperty("indoor", bool()))
+            .addSchema("Dog", object().addAllOf(ref("Pet")).addProperty("barks", bool()))
+            .addSchema("Lizard", object().addAllOf(ref("Pet")).addProperty("scales", bool()))
+            .addSchema("Category", object()
+                .addProperty("id", createObject(Schema.class).type(SchemaType.INTEGER))
+                .addProperty("name", string()))
+            .addSchema("Tag", object()
+                .addProperty("id", createObject(Schema.class).type(SchemaType.INTEGER))
+                .addProperty("name", string()))
+            .addSchema("Order", object()
+                .addProperty("id", createObject(Schema.class).type(SchemaType.INTEGER))
+                .addProperty("petId", createObject(Schema.class).type(SchemaType.INTEGER))
+                .addProperty("quantity", createObject(Schema.class).type(SchemaType.INTEGER).minimum(BigDecimal.ONE))
+                .addProperty("shipDate", string().format("date-time"))
+                .addProperty("complete", bool()))
+            .addSchema("User", object()
+                .addProperty("username", string().pattern("^[a-z][a-z0-9_]{2,31}$"))
+                .addProperty("email", string().format("email"))
+                .addProperty("phone", string().pattern("^\\+?[0-9 ()-]{7,20}$")));
+    }
+
+    private static Operation operation(String tag, String operationId, String code) {
+        return operation(tag, operationId, code, null);
+    }
+
+    private static Operation operation(String tag, String operationId, String code, String schema) {
+        APIResponse response = createObject(APIResponse.class).description(operationId);
+        if (schema != null) {
+            response.content(content(ref(schema)));
+        }
+        return createObject(Operation.class)
+            .addTag(tag)
+            .operationId(operationId)
+            .responses(createObject(APIResponses.class)
+                .addAPIResponse(code, response)
+                .addAPIResponse("400", createObject(APIResponse.class).description("Invalid input")));
+    }
+
+    private static RequestBody body(String schema) {
+        return createObject(RequestBody.class).required(true).content(content(ref(schema)));
+    }
+
+    private static Parameter pathParameter(String name, SchemaType type) {
+        return createObject(Parameter.class).name(name).in(Parameter.In.PATH).required(true)
+            .schema(createObject(Schema.class).type(type));
+    }
+
+    private static Parameter queryParameter(String name) {
+        return createObject(Parameter.class).name(name).in(Parameter.In.QUERY).schema(string());
+    }
+
+    private static Content content(Schema schema) {
+        return createObject(Content.class).addMediaType(JSON, createObject(MediaType.class).schema(schema));
+    }
+
+    private static Schema ref(String name) {
+        return createObject(Schema.class).ref(name);
+    }
+
+    private static Schema object() {
+        return createObject(Schema.class).type(SchemaType.OBJECT);
+    }
+
+    private static Schema string() {
+        return createObject(Schema.class).type(SchemaType.STRING);
+    }
+
+    private static Schema bool() {
+        return createObject(Schema.class).type(SchemaType.BOOLEAN);
+    }
+}
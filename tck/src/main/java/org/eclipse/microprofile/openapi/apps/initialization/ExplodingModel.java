@@ -0,0 +1,47 @@
+/**
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.apps.initialization;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+@Schema(name = "ExplodingModel", description = "Model whose static initializer throws")
+public class ExplodingModel {
+
+    static {
+        InitializationRecorder.initialized(ExplodingModel.class);
+    }
+
+    @Schema(required = true, description = "Identifier of the explosion")
+    private String id;
+
+    private ExplodingStatus status;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public ExplodingStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ExplodingStatus status) {
+        this.status = status;
+    }
+}
@@ -0,0 +1,35 @@
+/**
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.apps.initialization;
+
+import javax.ws.rs.ApplicationPath;
+import javax.ws.rs.core.Application;
+
+import org.eclipse.microprofile.openapi.annotations.OpenAPIDefinition;
+import org.eclipse.microprofile.openapi.annotations.info.Info;
+
+/**
+ * Application whose models cannot be initialized: their static initializers throw. Scanning the application must
+ * not initialize them, which {@link InitializationOASFilter} reports in the document.
+ */
+@ApplicationPath("/")
+@OpenAPIDefinition(
+    info = @Info(
+        title = "Initialization API",
+        version = "1.0",
+        description = "API whose models must not be initialized by the scan"))
+public class InitializationApp extends Application {
+}
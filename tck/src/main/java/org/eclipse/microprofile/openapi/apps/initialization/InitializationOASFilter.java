@@ -0,0 +1,32 @@
+/**
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.apps.initialization;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+/**
+ * Adds the classes initialized so far to the document, in the <code>x-initialized-classes</code> extension.
+ */
+public class InitializationOASFilter implements OASFilter {
+
+    public static final String INITIALIZED_EXTENSION = "x-initialized-classes";
+
+    @Override
+    public void filterOpenAPI(OpenAPI openAPI) {
+        openAPI.addExtension(INITIALIZED_EXTENSION, InitializationRecorder.getInitialized());
+    }
+}
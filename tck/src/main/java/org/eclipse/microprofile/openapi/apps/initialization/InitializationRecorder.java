@@ -0,0 +1,53 @@
+/**
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.apps.initialization;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records the classes of the application whose static initializer has run.
+ */
+public final class InitializationRecorder {
+
+    private static final Set<String> INITIALIZED = ConcurrentHashMap.newKeySet();
+
+    private InitializationRecorder() {
+    }
+
+    /**
+     * Called from the static initializer of a class, records that it has been initialized and fails its
+     * initialization.
+     *
+     * @param type the class being initialized
+     */
+    public static void initialized(Class<?> type) {
+        INITIALIZED.add(type.getName());
+        throw new IllegalStateException(type.getName() + " must not be initialized");
+    }
+
+    /**
+     * @return the sorted names of the classes initialized so far
+     */
+    public static List<String> getInitialized() {
+        List<String> initialized = new ArrayList<>(INITIALIZED);
+        Collections.sort(initialized);
+        return initialized;
+    }
+}
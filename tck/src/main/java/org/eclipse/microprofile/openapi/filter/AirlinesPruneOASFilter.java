@@ -0,0 +1,34 @@
+/**
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.filter;
+
+import org.eclipse.microprofile.openapi.models.Operation;
+
+/**
+ * Filter of <code>FilterPruneTest</code>: it applies {@link AirlinesOASFilter} and also removes the <code>createReview</code>
+ * operation of the airlines app, the only operation that refers to the <code>review</code> request body of the
+ * components.
+ */
+public class AirlinesPruneOASFilter extends AirlinesOASFilter {
+
+    @Override
+    public Operation filterOperation(Operation operation) {
+        if ("createReview".equals(operation.getOperationId())) {
+            return null;
+        }
+        return super.filterOperation(operation);
+    }
+}
@@ -0,0 +1,58 @@
+/**
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.filter;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.eclipse.microprofile.openapi.models.tags.Tag;
+
+/**
+ * Filter registered after {@link AirlinesOASFilter}, in the same <code>mp.openapi.filter</code> list. It only
+ * recognizes the elements as they were left by the first filter of the list.
+ */
+public class ChainedOASFilter implements OASFilter {
+
+    private int removedParameterCalls;
+
+    @Override
+    public Parameter filterParameter(Parameter parameter) {
+        if ("filterParameter - The user name for login".equals(parameter.getDescription())) {
+            parameter.addExtension("x-chained-filter", "filterParameter");
+        }
+        else if ("The password for login in clear text".equals(parameter.getDescription())) {
+            //Removed by the first filter of the list, so this filter must never see it
+            removedParameterCalls++;
+        }
+        return parameter;
+    }
+
+    @Override
+    public Tag filterTag(Tag tag) {
+        //Renamed from 'Bookings' by the first filter of the list
+        if ("child - Bookings".equals(tag.getName())) {
+            return null;
+        }
+        return tag;
+    }
+
+    @Override
+    public void filterOpenAPI(OpenAPI openAPI) {
+        //Called after the filterOpenAPI method of the first filter of the list
+        openAPI.addExtension("x-chained-filter-put-summary", openAPI.getPaths().getPathItem("/bookings/{id}").getPUT().getSummary());
+        openAPI.addExtension("x-chained-filter-removed-calls", removedParameterCalls);
+    }
+}
@@ -0,0 +1,33 @@
+/**
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.filter;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+/**
+ * Records when the merged model was filtered, in milliseconds since the epoch, so that tests can compare it with the
+ * times recorded by the other processing steps.
+ */
+public class ProcessingTimeOASFilter implements OASFilter {
+
+    public static final String STARTED_EXTENSION = "x-filter-started";
+
+    @Override
+    public void filterOpenAPI(OpenAPI openAPI) {
+        openAPI.addExtension(STARTED_EXTENSION, System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,47 @@
+/**
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.filter;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+
+/**
+ * Filter that modifies the description of the schema of the <code>birthInstant</code> property of
+ * <code>Lizard</code>, defined by the <code>mp.openapi.schema.java.time.Instant</code> configuration property, when it
+ * is not a reference, and the title of the <code>EpochSeconds</code> schema of the components.
+ */
+public class SchemaConfigOASFilter implements OASFilter {
+
+    public static final String BIRTH_INSTANT_DESCRIPTION = "filterOpenAPI - Lizard birth instant";
+
+    public static final String EPOCH_SECONDS_TITLE = "filterOpenAPI - Epoch Seconds";
+
+    @Override
+    public void filterOpenAPI(OpenAPI openAPI) {
+        Schema lizard = openAPI.getComponents().getSchemas().get("Lizard");
+        if (lizard != null && lizard.getProperties() != null) {
+            Schema birthInstant = lizard.getProperties().get("birthInstant");
+            if (birthInstant != null && birthInstant.getRef() == null) {
+                birthInstant.setDescription(BIRTH_INSTANT_DESCRIPTION);
+            }
+        }
+        Schema epochSeconds = openAPI.getComponents().getSchemas().get("EpochSeconds");
+        if (epochSeconds != null) {
+            epochSeconds.setTitle(EPOCH_SECONDS_TITLE);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/**
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.reader;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.openapi.OASModelReader;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+/**
+ * Model reader that records in the document how many times it has been invoked, in the extension
+ * {@value #INVOCATIONS_EXTENSION}. The count starts over with every deployment.
+ */
+public class CountingOASModelReader implements OASModelReader {
+
+    public static final String INVOCATIONS_EXTENSION = "x-model-reader-invocations";
+
+    private static final AtomicInteger INVOCATIONS = new AtomicInteger();
+
+    @Override
+    public OpenAPI buildModel() {
+        int invocation = INVOCATIONS.incrementAndGet();
+        return new MyOASModelReaderImpl().buildModel().addExtension(INVOCATIONS_EXTENSION, invocation);
+    }
+}
@@ -0,0 +1,43 @@
+/**
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.reader;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.OASModelReader;
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.info.Info;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+
+/**
+ * Model reader in the role of a shared library that contributes a common error schema.
+ */
+public class ErrorSchemaModelReader implements OASModelReader {
+
+    @Override
+    public OpenAPI buildModel() {
+        return OASFactory.createObject(OpenAPI.class)
+                .info(OASFactory.createObject(Info.class)
+                    .description("Error schema reader"))
+                .components(OASFactory.createObject(Components.class)
+                    .addSchema("Error", OASFactory.createObject(Schema.class)
+                        .type(Schema.SchemaType.OBJECT)
+                        .description("Error schema reader")
+                        .addProperty("code", OASFactory.createObject(Schema.class).type(Schema.SchemaType.INTEGER))
+                        .addProperty("message", OASFactory.createObject(Schema.class).type(Schema.SchemaType.STRING))))
+                .addExtension("x-readers", "error");
+    }
+}
@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.reader;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+/**
+ * Model reader that takes {@value #DELAY_MILLIS} ms to build the model of {@link MyOASModelReaderImpl}, so that it
+ * completes after the static file and the annotations have been processed.
+ * <p>
+ * It sets a version that the annotations of the application override, which shows whether the vendor merged the
+ * results in the order of the processing rules or in the order they completed. It also records whether
+ * {@link #buildModelAsync(Executor)} was called, whether the model was built on another thread than the one
+ * that called it, and when the building started and completed, in milliseconds since the epoch.
+ */
+public class SlowOASModelReader extends MyOASModelReaderImpl {
+
+    public static final long DELAY_MILLIS = 2000;
+
+    public static final String READER_VERSION = "0.1-reader";
+    public static final String ASYNC_EXTENSION = "x-model-reader-async";
+    public static final String OTHER_THREAD_EXTENSION = "x-model-reader-other-thread";
+    public static final String STARTED_EXTENSION = "x-model-reader-started";
+    public static final String COMPLETED_EXTENSION = "x-model-reader-completed";
+
+    @Override
+    public OpenAPI buildModel() {
+        return slowModel(false, false);
+    }
+
+    @Override
+    public CompletionStage<OpenAPI> buildModelAsync(Executor executor) {
+        Thread caller = Thread.currentThread();
+        return CompletableFuture.supplyAsync(() -> slowModel(true, Thread.currentThread() != caller), executor);
+    }
+
+    private OpenAPI slowModel(boolean async, boolean otherThread) {
+        long started = System.currentTimeMillis();
+        try {
+            TimeUnit.MILLISECONDS.sleep(DELAY_MILLIS);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        OpenAPI model = super.buildModel();
+        model.getInfo().setVersion(READER_VERSION);
+        return model.addExtension(ASYNC_EXTENSION, async).addExtension(OTHER_THREAD_EXTENSION, otherThread)
+                .addExtension(STARTED_EXTENSION, started).addExtension(COMPLETED_EXTENSION, System.currentTimeMillis());
+    }
+}
@@ -20,20 +20,26 @@ import static io.restassured.RestAssured.given;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.Collections;
+import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
+import org.eclipse.microprofile.openapi.tck.utils.CborToJsonFilter;
 import org.eclipse.microprofile.openapi.tck.utils.YamlToJsonFilter;
 import org.jboss.arquillian.testng.Arquillian;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.DataProvider;
 
 import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+import io.restassured.config.DecoderConfig.ContentDecoder;
 import io.restassured.filter.Filter;
 import io.restassured.http.ContentType;
 import io.restassured.parsing.Parser;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
 import io.restassured.response.ValidatableResponse;
+import io.restassured.specification.RequestSpecification;
 
 public abstract class AppTestBase extends Arquillian {
 
@@ -46,6 +52,9 @@ public abstract class AppTestBase extends Arquillian {
     private static String password;
 
     protected static final Filter YAML_FILTER = new YamlToJsonFilter();
+    protected static final Filter CBOR_FILTER = new CborToJsonFilter();
+
+    protected static final String APPLICATION_CBOR = "application/cbor";
 
     @BeforeClass
     public static void configureRestAssured() throws MalformedURLException {
@@ -80,17 +89,69 @@ public abstract class AppTestBase extends Arquillian {
     }
 
     public ValidatableResponse callEndpoint(String type) {
+        return callEndpoint(type, Collections.emptyMap());
+    }
+
+    /**
+     * Call the /openapi endpoint in the given format, passing the provided query parameters.
+     * 
+     * @param type the format, either JSON, YAML or CBOR
+     * @param queryParams the query parameters to add to the request
+     * @return the response
+     */
+    public ValidatableResponse callEndpoint(String type, Map<String, ?> queryParams) {
         ValidatableResponse vr;
         if ("JSON".equals(type)) {
-            vr = given().accept(ContentType.JSON).when().get("/openapi").then().statusCode(200);
+            vr = given().queryParams(queryParams).accept(ContentType.JSON).when().get("/openapi").then().statusCode(200);
+        }
+        else if ("CBOR".equals(type)) {
+            vr = given().filter(CBOR_FILTER).queryParams(queryParams).accept(APPLICATION_CBOR).when().get("/openapi").then().statusCode(200);
         }
         else {
             // It seems there is no standard for YAML
-            vr = given().filter(YAML_FILTER).accept(ContentType.ANY).when().get("/openapi").then().statusCode(200);
+            vr = given().filter(YAML_FILTER).queryParams(queryParams).accept(ContentType.ANY).when().get("/openapi").then().statusCode(200);
+        }
+        return vr;
+    }
+
+    /**
+     * Call the /openapi endpoint in the given format, requesting the given content coding
+     * through the Accept-Encoding header. The response body is decoded before being returned.
+     * 
+     * @param type the format, either JSON or YAML
+     * @param encoding the content coding, for example gzip or deflate
+     * @return the response
+     */
+    public ValidatableResponse callEndpointWithEncoding(String type, String encoding) {
+        ValidatableResponse vr;
+        if ("JSON".equals(type)) {
+            vr = givenEncoding(encoding).accept(ContentType.JSON).when().get("/openapi").then().statusCode(200);
+        }
+        else {
+            vr = givenEncoding(encoding).filter(YAML_FILTER).accept(ContentType.ANY)
+                    .when().get("/openapi").then().statusCode(200);
         }
         return vr;
     }
 
+    /**
+     * RestAssured adds the codings of its content decoders to the Accept-Encoding header, so only the decoder
+     * of the requested coding is enabled, and none for other codings such as identity.
+     */
+    private static RequestSpecification givenEncoding(String encoding) {
+        DecoderConfig decoders;
+        if ("gzip".equals(encoding)) {
+            decoders = DecoderConfig.decoderConfig().contentDecoders(ContentDecoder.GZIP);
+        }
+        else if ("deflate".equals(encoding)) {
+            decoders = DecoderConfig.decoderConfig().contentDecoders(ContentDecoder.DEFLATE);
+        }
+        else {
+            decoders = DecoderConfig.decoderConfig().noContentDecoders();
+        }
+        return given().config(RestAssured.config().decoderConfig(decoders)).header("Accept-Encoding", encoding);
+    }
+
     /**
      * Lookup the object at the provided path in the response and if the object
      * is a reference (contains a $ref property), return the reference path. If the
@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
+import static org.testng.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.Comparator;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+import io.restassured.http.ContentType;
+import io.restassured.response.ValidatableResponse;
+
+/**
+ * This test covers the CBOR format of the /openapi endpoint. It verifies that
+ * the CBOR document decodes to the same structure as the JSON document.
+ */
+public class CborDocumentTest extends AppTestBase {
+
+    /**
+     * Compares numbers by value, so that e.g. an integer encoded in a wider CBOR
+     * type than its JSON counterpart is still considered equal.
+     */
+    private static final Comparator<JsonNode> NUMBER_VALUE_COMPARATOR = (n1, n2) -> {
+        if (n1.isNumber() && n2.isNumber()) {
+            return n1.decimalValue().compareTo(n2.decimalValue());
+        }
+        return n1.equals(n2) ? 0 : 1;
+    };
+
+    @Deployment(name = "airlinesCbor")
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, "airlinesCbor.war")
+                .addPackages(true, "org.eclipse.microprofile.openapi.apps.airlines");
+    }
+
+    @RunAsClient
+    @Test
+    public void testCborContentType() {
+        given().accept(APPLICATION_CBOR).when().get("/openapi").then().statusCode(200).contentType(APPLICATION_CBOR);
+    }
+
+    @RunAsClient
+    @Test
+    public void testCborDocument() {
+        ValidatableResponse vr = callEndpoint("CBOR");
+        vr.body("openapi", startsWith("3.0."));
+        vr.body("info.title", equalTo("AirlinesRatingApp API"));
+        vr.body("paths.'/bookings/{id}'.get.operationId", equalTo("getBookingById"));
+    }
+
+    @RunAsClient
+    @Test
+    public void testCborMatchesJson() throws IOException {
+        byte[] cbor = given().accept(APPLICATION_CBOR).when().get("/openapi").then().statusCode(200).extract().asByteArray();
+        String json = given().accept(ContentType.JSON).when().get("/openapi").then().statusCode(200).extract().asString();
+
+        JsonNode cborTree = new ObjectMapper(new CBORFactory()).readTree(cbor);
+        JsonNode jsonTree = new ObjectMapper().readTree(json);
+
+        assertTrue(jsonTree.equals(NUMBER_VALUE_COMPARATOR, cborTree),
+                "The CBOR document does not have the same structure as the JSON document");
+    }
+}
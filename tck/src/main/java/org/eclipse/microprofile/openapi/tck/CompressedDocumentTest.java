@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.restassured.response.ValidatableResponse;
+
+/**
+ * This test covers the gzip and deflate content codings of the /openapi endpoint.
+ */
+public class CompressedDocumentTest extends AppTestBase {
+    @Deployment(name = "airlinesCompressed")
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, "airlinesCompressed.war")
+                .addPackages(true, "org.eclipse.microprofile.openapi.apps.airlines");
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testGzip(String type) {
+        ValidatableResponse vr = callEndpointWithEncoding(type, "gzip");
+        vr.header("Content-Encoding", equalTo("gzip"));
+        vr.header("Vary", containsString("Accept-Encoding"));
+        checkDocument(vr);
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testDeflate(String type) {
+        ValidatableResponse vr = callEndpointWithEncoding(type, "deflate");
+        vr.header("Content-Encoding", equalTo("deflate"));
+        vr.header("Vary", containsString("Accept-Encoding"));
+        checkDocument(vr);
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testIdentity(String type) {
+        ValidatableResponse vr = callEndpointWithEncoding(type, "identity");
+        vr.header("Content-Encoding", nullValue());
+        checkDocument(vr);
+    }
+
+    private void checkDocument(ValidatableResponse vr) {
+        vr.body("openapi", startsWith("3.0."));
+        vr.body("info.title", equalTo("AirlinesRatingApp API"));
+        vr.body("paths.'/bookings/{id}'.get.operationId", equalTo("getBookingById"));
+    }
+}
@@ -0,0 +1,145 @@
+/**
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.tck;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.microprofile.openapi.reader.CountingOASModelReader;
+import org.jboss.arquillian.container.test.api.Deployer;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+
+/**
+ * Requests the document from many threads while the application is being deployed and right after. Every
+ * successful response of a format must be the same document, and the model reader must have been invoked once.
+ * <p>
+ * The number of threads can be set with the system property <code>test.concurrency.threads</code>.
+ */
+public class ConcurrentDocumentTest extends AppTestBase {
+
+    private static final String DEPLOYMENT = "airlinesConcurrent";
+    private static final String TITLE = "AirlinesRatingApp API";
+
+    private static final int THREADS = Integer.getInteger("test.concurrency.threads", 16);
+    private static final int REQUESTS_AFTER_DEPLOYMENT = 25;
+    private static final long TIMEOUT_MINUTES = 5;
+
+    @ArquillianResource
+    private Deployer deployer;
+
+    @Deployment(name = DEPLOYMENT, managed = false)
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, "airlinesConcurrent.war")
+                .addPackages(true, "org.eclipse.microprofile.openapi.apps.airlines")
+                .addPackages(true, "org.eclipse.microprofile.openapi.reader")
+                .addAsManifestResource("microprofile-reader-counting.properties", "microprofile-config.properties");
+    }
+
+    @RunAsClient
+    @Test
+    public void testConcurrentRequests() throws Exception {
+        Map<String, Set<String>> documents = new ConcurrentHashMap<>();
+        Queue<String> errors = new ConcurrentLinkedQueue<>();
+        AtomicBoolean deployed = new AtomicBoolean();
+        CountDownLatch started = new CountDownLatch(THREADS);
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(TIMEOUT_MINUTES);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>(THREADS);
+        for (int i = 0; i < THREADS; i++) {
+            String type = i % 2 == 0 ? "JSON" : "YAML";
+            futures.add(executor.submit(() -> {
+                started.countDown();
+                int afterDeployment = 0;
+                while (afterDeployment < REQUESTS_AFTER_DEPLOYMENT && System.nanoTime() < deadline) {
+                    // Before the application is deployed, failures and documents of other applications are expected
+                    boolean wasDeployed = deployed.get();
+                    try {
+                        Response response = request(type);
+                        String body = response.asString();
+                        if (response.statusCode() == 200 && body.contains(TITLE)) {
+                            documents.computeIfAbsent(type, k -> ConcurrentHashMap.newKeySet()).add(body);
+                        }
+                        else if (wasDeployed) {
+                            errors.add(type + " request returned status " + response.statusCode() + " after deployment");
+                        }
+                    }
+                    catch (RuntimeException e) {
+                        if (wasDeployed) {
+                            errors.add(type + " request failed after deployment: " + e);
+                        }
+                    }
+                    if (wasDeployed) {
+                        afterDeployment++;
+                    }
+                }
+                return null;
+            }));
+        }
+
+        started.await();
+        try {
+            deployer.deploy(DEPLOYMENT);
+            deployed.set(true);
+            for (Future<?> future : futures) {
+                future.get(TIMEOUT_MINUTES, TimeUnit.MINUTES);
+            }
+            assertTrue(errors.isEmpty(), "Errors while requesting the document concurrently: " + errors);
+            for (String type : new String[] { "JSON", "YAML" }) {
+                assertEquals(documents.getOrDefault(type, Collections.emptySet()).size(), 1, "Number of different " + type + " documents served");
+            }
+            callEndpoint("JSON").body(CountingOASModelReader.INVOCATIONS_EXTENSION, equalTo(1));
+        }
+        finally {
+            executor.shutdownNow();
+            if (deployed.get()) {
+                deployer.undeploy(DEPLOYMENT);
+            }
+        }
+    }
+
+    private static Response request(String type) {
+        if ("JSON".equals(type)) {
+            return given().accept(ContentType.JSON).when().get("/openapi");
+        }
+        return given().accept(ContentType.ANY).when().get("/openapi");
+    }
+}
@@ -0,0 +1,82 @@
+/**
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.tck;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.lessThan;
+
+import org.eclipse.microprofile.openapi.filter.AirlinesOASFilter;
+import org.eclipse.microprofile.openapi.filter.ChainedOASFilter;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.restassured.response.ValidatableResponse;
+
+/**
+ * Profiles the list of two filters of {@link FilterTest}: the profile is a list with one entry per filter, in the
+ * order of the list.
+ */
+public class FilterProfileChainTest extends AppTestBase {
+
+    private static final String PROFILE = "x-mp-openapi-filter-profile";
+
+    @Deployment(name = "airlinesFilterProfileChain")
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, "airlinesFilterProfileChain.war")
+                .addPackages(true, "org.eclipse.microprofile.openapi.apps.airlines")
+                .addPackages(true, "org.eclipse.microprofile.openapi.filter")
+                .addAsManifestResource("openapi.yaml", "openapi.yaml")
+                .addAsManifestResource("microprofile-config-filter-profile-chain.properties", "microprofile-config.properties");
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testProfilePerFilter(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        vr.body(PROFILE, hasSize(2));
+        vr.body(PROFILE + "[0].filter", equalTo(AirlinesOASFilter.class.getName()));
+        vr.body(PROFILE + "[1].filter", equalTo(ChainedOASFilter.class.getName()));
+        for (String profile : new String[] { PROFILE + "[0]", PROFILE + "[1]" }) {
+            assertThat(time(vr, profile), greaterThan(0L));
+            vr.body(profile + ".methods.filterOpenAPI.elementType", equalTo("OpenAPI"));
+            vr.body(profile + ".methods.filterOpenAPI.calls", equalTo(1));
+        }
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testProfileCallsAfterRemoval(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        // The parameters removed by the first filter are never passed to the second one
+        int first = vr.extract().path(PROFILE + "[0].methods.filterParameter.calls");
+        int second = vr.extract().path(PROFILE + "[1].methods.filterParameter.calls");
+        assertThat(second, lessThan(first));
+        vr.body(PROFILE + "[1].methods.filterParameter.elementType", equalTo("Parameter"));
+        vr.body("x-chained-filter-removed-calls", equalTo(0));
+    }
+
+    // The times are parsed as Integer or Long depending on their value
+    private static long time(ValidatableResponse vr, String path) {
+        Number time = vr.extract().path(path + ".time");
+        return time.longValue();
+    }
+}
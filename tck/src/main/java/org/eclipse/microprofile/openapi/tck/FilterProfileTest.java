@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.tck;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasSize;
+
+import org.eclipse.microprofile.openapi.filter.AirlinesOASFilter;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.restassured.response.ValidatableResponse;
+
+public class FilterProfileTest extends AppTestBase {
+
+    private static final String PROFILE = "x-mp-openapi-filter-profile";
+
+    @Deployment(name = "airlinesFilterProfile")
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, "airlinesFilterProfile.war")
+                .addPackages(true, "org.eclipse.microprofile.openapi.apps.airlines")
+                .addPackages(true, "org.eclipse.microprofile.openapi.filter")
+                .addAsManifestResource("openapi.yaml", "openapi.yaml")
+                .addAsManifestResource("microprofile-config-filter-profile.properties", "microprofile-config.properties");
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testProfile(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        // A list even with a single filter
+        vr.body(PROFILE, hasSize(1));
+        vr.body(PROFILE + "[0].filter", equalTo(AirlinesOASFilter.class.getName()));
+        assertThat(time(vr, PROFILE + "[0]"), greaterThan(0L));
+
+        String[][] methods = { { "filterPathItem", "PathItem" }, { "filterOperation", "Operation" },
+            { "filterParameter", "Parameter" }, { "filterHeader", "Header" }, { "filterRequestBody", "RequestBody" },
+            { "filterAPIResponse", "APIResponse" }, { "filterSchema", "Schema" }, { "filterSecurityScheme", "SecurityScheme" },
+            { "filterServer", "Server" }, { "filterTag", "Tag" }, { "filterLink", "Link" }, { "filterCallback", "Callback" } };
+        for (String[] method : methods) {
+            String path = PROFILE + "[0].methods." + method[0];
+            vr.body(path + ".elementType", equalTo(method[1]));
+            vr.body(path + ".calls", greaterThan(0));
+            assertThat(time(vr, path), greaterThanOrEqualTo(0L));
+        }
+        vr.body(PROFILE + "[0].methods.filterOpenAPI.elementType", equalTo("OpenAPI"));
+        vr.body(PROFILE + "[0].methods.filterOpenAPI.calls", equalTo(1));
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testProfileDoesNotChangeFiltering(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        // Same results as FilterTest, the profile is only added
+        vr.body("paths.'/availability'.get.operationId", equalTo("filterPathItemGetFlights"));
+        vr.body("paths.'/availability'.put.summary", equalTo("filterPathItem - added put operation"));
+    }
+
+    // The times are parsed as Integer or Long depending on their value
+    private static long time(ValidatableResponse vr, String path) {
+        Number time = vr.extract().path(path + ".time");
+        return time.longValue();
+    }
+}
@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.restassured.response.ValidatableResponse;
+
+/**
+ * This test covers the removal of unused components, enabled by the
+ * mp.openapi.components.prune.unused property, on the filtered airlines app. The components are pruned after
+ * the filters, so a component whose only reference was removed by a filter is removed as well.
+ */
+public class FilterPruneTest extends AppTestBase {
+    @Deployment(name = "airlinesFilteredPruned")
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, "airlinesFilteredPruned.war")
+                .addPackages(true, "org.eclipse.microprofile.openapi.apps.airlines")
+                .addPackages(true, "org.eclipse.microprofile.openapi.filter")
+                .addAsManifestResource("openapi.yaml", "openapi.yaml")
+                .addAsManifestResource("microprofile-config-filter-prune.properties", "microprofile-config.properties");
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testFilterApplied(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        //Parameter named 'password' should have been removed by filter
+        vr.body("paths.'/user/login'.get.parameters", hasSize(1));
+        vr.body("paths.'/bookings/{id}'.get.summary", equalTo("filterOperation - Get a booking with ID"));
+        //Operation removed by the filter, in addition to the changes of AirlinesOASFilter
+        vr.body("paths.'/reviews'.post", nullValue());
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testReachableComponentsKept(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        vr.body("components.parameters.departureDate", notNullValue());
+        vr.body("components.responses.FoundAirlines", notNullValue());
+        vr.body("components.headers.Max-Rate", notNullValue());
+        vr.body("components.headers.Request-Limit", notNullValue());
+
+        // referenced by name from security requirements
+        vr.body("components.securitySchemes.airlinesRatingApp_auth", notNullValue());
+        vr.body("components.securitySchemes.httpTestScheme", notNullValue());
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testUnusedComponentsRemoved(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        vr.body("components.schemas.AirlinesRef", nullValue());
+        vr.body("components.parameters.username", nullValue());
+        vr.body("components.examples.user", nullValue());
+        vr.body("components.links.UserName", nullValue());
+        vr.body("components.callbacks.GetBookings", nullValue());
+
+        // only referenced from the GetBookings callback, which is itself unused
+        vr.body("components.responses.FoundBookings", nullValue());
+
+        // only referenced from the createReview operation, which is removed by a filter
+        vr.body("components.requestBodies.review", nullValue());
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testKeptComponents(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        vr.body("components.examples.review", notNullValue());
+        vr.body("components.examples.review.summary", equalTo("External review example"));
+    }
+}
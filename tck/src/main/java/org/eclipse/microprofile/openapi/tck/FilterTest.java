@@ -20,7 +20,9 @@ import static org.hamcrest.Matchers.both;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.collection.IsMapWithSize.aMapWithSize;
 
@@ -200,4 +202,30 @@ public class FilterTest extends AppTestBase {
         final String callbacksPath = "paths.'/streams'.post.callbacks.onData.'{$request.query.callbackUrl}/data'.post";
         vr.body(callbacksPath + ".description", equalTo("filterCallback - callback post operation"));
     }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testFilterChainOrder(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        //The second filter of the list only recognizes the parameter once the first filter has updated it
+        String username = "paths.'/user/login'.get.parameters.findAll { it.name == 'username' }";
+        vr.body(username + ".x-chained-filter", both(hasSize(1)).and(contains("filterParameter")));
+
+        //The filterOpenAPI method of the second filter is called after the one of the first filter
+        vr.body("x-chained-filter-put-summary", equalTo("filterOpenAPI - Update a booking with ID"));
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testFilterChainRemoval(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        //The parameter removed by the first filter is never passed to the second filter
+        vr.body("paths.'/user/login'.get.parameters", hasSize(1));
+        vr.body("x-chained-filter-removed-calls", equalTo(0));
+
+        //The tag renamed by the first filter is removed by the second filter
+        vr.body("tags.name", not(hasItem("child - Bookings")));
+        vr.body("tags.name", not(hasItem("Bookings")));
+        vr.body("tags.name", hasItem("user"));
+    }
 }
@@ -0,0 +1,182 @@
+/**
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.tck;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.notNullValue;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.OASMetrics;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+
+/**
+ * Verifies the metrics registered in the <code>openapi</code> scope of MicroProfile Metrics. The tests are skipped
+ * when MicroProfile Metrics is not available.
+ */
+public class MetricsTest extends AppTestBase {
+
+    private static final String APPLICATION = "airlinesMetrics";
+
+    @Deployment(name = APPLICATION)
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, APPLICATION + ".war")
+                .addPackages(true, "org.eclipse.microprofile.openapi.apps.airlines")
+                .addAsManifestResource("openapi.yaml", "openapi.yaml");
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testMetricsRegistered(String type) {
+        callEndpoint(type);
+        Map<String, Object> metrics = metrics(APPLICATION);
+        for (String name : new String[] { OASMetrics.PROCESSING_DURATION, OASMetrics.DOCUMENT_PATHS,
+                OASMetrics.DOCUMENT_OPERATIONS, OASMetrics.DOCUMENT_SCHEMAS, OASMetrics.DOCUMENT_SIZE,
+                OASMetrics.REQUEST_DURATION }) {
+            assertThat("Metric " + name, find(metrics, name), notNullValue());
+        }
+        String all = metrics.toString();
+        for (String phase : new String[] { OASMetrics.PHASE_CONFIG, OASMetrics.PHASE_STATIC_FILE, OASMetrics.PHASE_SCAN,
+                OASMetrics.PHASE_SERIALIZATION }) {
+            assertThat(all, containsString(OASMetrics.PHASE_TAG + "=" + phase));
+        }
+        assertThat(all, containsString(OASMetrics.FORMAT_TAG + "=" + type.toLowerCase()));
+    }
+
+    @RunAsClient
+    @Test
+    public void testDocumentCounts() {
+        Map<String, Map<String, Object>> paths = callEndpoint("JSON").extract().path("paths");
+        int operations = 0;
+        for (Map<String, Object> pathItem : paths.values()) {
+            for (String method : new String[] { "get", "put", "post", "delete", "options", "head", "patch", "trace" }) {
+                if (pathItem.containsKey(method)) {
+                    operations++;
+                }
+            }
+        }
+        Map<String, Object> schemas = callEndpoint("JSON").extract().path("components.schemas");
+
+        Map<String, Object> metrics = metrics(APPLICATION);
+        assertThat(((Number) find(metrics, OASMetrics.DOCUMENT_PATHS)).intValue(), equalTo(paths.size()));
+        assertThat(((Number) find(metrics, OASMetrics.DOCUMENT_OPERATIONS)).intValue(), equalTo(operations));
+        assertThat(((Number) find(metrics, OASMetrics.DOCUMENT_SCHEMAS)).intValue(), equalTo(schemas.size()));
+    }
+
+    @RunAsClient
+    @Test
+    public void testCacheCounters() {
+        callEndpoint("JSON");
+        callEndpoint("JSON");
+        Map<String, Object> metrics = metrics(APPLICATION);
+        // The second request at least is served from the document rendered for the first one
+        assertThat("Metric " + OASMetrics.CACHE_HITS, find(metrics, OASMetrics.CACHE_HITS), notNullValue());
+        assertThat(((Number) find(metrics, OASMetrics.CACHE_HITS)).intValue(), greaterThan(0));
+    }
+
+    /**
+     * @param application
+     *            the name of the deployment, without the extension of the archive
+     * @return the metrics of the <code>openapi</code> scope that belong to the application, in the JSON format of
+     *         MicroProfile Metrics: those tagged with {@link OASMetrics#APPLICATION_TAG} for another application are
+     *         left out. The tags of compound metrics, such as timers, are on the keys of their values, so these values
+     *         are filtered the same way, and a compound metric is left out when none of its values remains. The map
+     *         is empty when no metric is registered in the scope.
+     * @throws SkipException if MicroProfile Metrics is not available
+     */
+    static Map<String, Object> metrics(String application) {
+        if (given().accept(ContentType.JSON).when().get("/metrics").statusCode() == 404) {
+            throw new SkipException("MicroProfile Metrics is not available");
+        }
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        Response response = given().accept(ContentType.JSON).when().get("/metrics/" + OASMetrics.SCOPE);
+        if (response.statusCode() == 404) {
+            return metrics;
+        }
+        Map<String, Object> all = response.then().statusCode(200).extract().jsonPath().getMap("$");
+        for (Map.Entry<String, Object> entry : all.entrySet()) {
+            if (!isApplication(entry.getKey(), application)) {
+                continue;
+            }
+            if (entry.getValue() instanceof Map) {
+                @SuppressWarnings("unchecked")
+                Map<String, Object> values = (Map<String, Object>) entry.getValue();
+                Map<String, Object> kept = new LinkedHashMap<>();
+                for (Map.Entry<String, Object> value : values.entrySet()) {
+                    if (isApplication(value.getKey(), application)) {
+                        kept.put(value.getKey(), value.getValue());
+                    }
+                }
+                if (!kept.isEmpty()) {
+                    metrics.put(entry.getKey(), kept);
+                }
+            }
+            else {
+                metrics.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return metrics;
+    }
+
+    /**
+     * @return <code>true</code> if the key has no {@link OASMetrics#APPLICATION_TAG} or is tagged with the given
+     *         application
+     */
+    private static boolean isApplication(String key, String application) {
+        String tag = tag(key, OASMetrics.APPLICATION_TAG);
+        return tag == null || tag.equals(application);
+    }
+
+    /**
+     * @return the value of the tag with the given name in a key of the JSON format, such as
+     *         <code>name;tag1=value1;tag2=value2</code>, or <code>null</code> if there is none
+     */
+    private static String tag(String key, String name) {
+        String[] parts = key.split(";");
+        for (int i = 1; i < parts.length; i++) {
+            if (parts[i].startsWith(name + "=")) {
+                return parts[i].substring(name.length() + 1);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the value of the metric with the given name, whatever its other tags, among the metrics of an application
+     *         returned by {@link #metrics(String)}, or <code>null</code> if there is none
+     */
+    static Object find(Map<String, Object> metrics, String name) {
+        for (Map.Entry<String, Object> entry : metrics.entrySet()) {
+            if (entry.getKey().equals(name) || entry.getKey().startsWith(name + ";")) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+}
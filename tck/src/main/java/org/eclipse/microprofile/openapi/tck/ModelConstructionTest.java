@@ -39,6 +39,7 @@ import java.util.Map;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.regex.Pattern;
 
 import org.eclipse.microprofile.openapi.OASFactory;
 import org.eclipse.microprofile.openapi.models.Components;
@@ -75,10 +76,12 @@ import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
 import org.eclipse.microprofile.openapi.models.servers.Server;
 import org.eclipse.microprofile.openapi.models.servers.ServerVariable;
 import org.eclipse.microprofile.openapi.models.tags.Tag;
+import org.eclipse.microprofile.openapi.tck.utils.HeapUsage;
 import org.jboss.arquillian.container.test.api.Deployment;
 import org.jboss.arquillian.testng.Arquillian;
 import org.jboss.shrinkwrap.api.ShrinkWrap;
 import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.SkipException;
 import org.testng.annotations.Test;
 
 /**
@@ -88,9 +91,16 @@ import org.testng.annotations.Test;
  */
 public class ModelConstructionTest extends Arquillian {
     
+    // Upper bound of the heap used by a Schema with a single property set. An implementation that
+    // eagerly allocates its List and Map properties needs several times more.
+    private static final long MAX_BYTES_PER_SCHEMA = 512;
+    
+    // Number of measurements of the footprint, the smallest one is kept
+    private static final int FOOTPRINT_RUNS = 5;
+    
     @Deployment
     public static WebArchive createDeployment() {
-        return ShrinkWrap.create(WebArchive.class);
+        return ShrinkWrap.create(WebArchive.class).addClass(HeapUsage.class);
     }
 
     // Container for matched getter, setter and builder methods
@@ -1075,6 +1085,84 @@ public class ModelConstructionTest extends Arquillian {
         
         final String otherRequiredValue = new String("otherRequired");
         checkListImmutable(s, Schema::getEnumeration, otherRequiredValue);
+        
+        s.setMinimum(null);
+        assertFalse(s.hasMinimum(), "The minimum property is expected to be unset.");
+        assertEquals(s.getMinimumAsLong(), 0L, "The minimum property (long type) is expected to be 0 when unset.");
+        assertTrue(Double.isNaN(s.getMinimumAsDouble()), "The minimum property (double type) is expected to be NaN when unset.");
+        assertFalse(s.isMinimumLongExact(), "The minimum property (long type) is expected to be inexact when unset.");
+        assertFalse(s.isMinimumDoubleExact(), "The minimum property (double type) is expected to be inexact when unset.");
+        s.setMinimum(new BigDecimal("10"));
+        assertTrue(s.hasMinimum(), "The minimum property is expected to be set.");
+        assertEquals(s.getMinimumAsLong(), 10L, "The minimum property (long type) is expected to be 10.");
+        assertTrue(s.isMinimumLongExact(), "The minimum property (long type) is expected to be exact.");
+        assertEquals(s.getMinimumAsDouble(), 10.0d, "The minimum property (double type) is expected to be 10.0.");
+        assertTrue(s.isMinimumDoubleExact(), "The minimum property (double type) is expected to be exact.");
+        
+        s.setMaximum(new BigDecimal("0.1"));
+        assertTrue(s.hasMaximum(), "The maximum property is expected to be set.");
+        assertFalse(s.isMaximumLongExact(), "The maximum property (long type) is expected to be inexact.");
+        assertEquals(s.getMaximumAsDouble(), 0.1d, "The maximum property (double type) is expected to be 0.1.");
+        assertFalse(s.isMaximumDoubleExact(), "The maximum property (double type) is expected to be inexact.");
+        
+        s.setMultipleOf(new BigDecimal("0.5"));
+        assertTrue(s.hasMultipleOf(), "The multipleOf property is expected to be set.");
+        assertFalse(s.isMultipleOfLongExact(), "The multipleOf property (long type) is expected to be inexact.");
+        assertEquals(s.getMultipleOfAsDouble(), 0.5d, "The multipleOf property (double type) is expected to be 0.5.");
+        assertTrue(s.isMultipleOfDoubleExact(), "The multipleOf property (double type) is expected to be exact.");
+        
+        s.setMaxLength(null);
+        assertEquals(s.getMaxLengthAsInt(), -1, "The maxLength property (int type) is expected to be -1 when unset.");
+        s.setMaxLength(5);
+        assertEquals(s.getMaxLengthAsInt(), 5, "The maxLength property (int type) is expected to be 5.");
+        s.setMinLength(null);
+        assertEquals(s.getMinLengthAsInt(), -1, "The minLength property (int type) is expected to be -1 when unset.");
+        s.setMaxItems(3);
+        assertEquals(s.getMaxItemsAsInt(), 3, "The maxItems property (int type) is expected to be 3.");
+        s.setMinItems(null);
+        assertEquals(s.getMinItemsAsInt(), -1, "The minItems property (int type) is expected to be -1 when unset.");
+        s.setMaxProperties(0);
+        assertEquals(s.getMaxPropertiesAsInt(), 0, "The maxProperties property (int type) is expected to be 0.");
+        s.setMinProperties(null);
+        assertEquals(s.getMinPropertiesAsInt(), -1, "The minProperties property (int type) is expected to be -1 when unset.");
+        
+        s.setPattern(null);
+        assertNull(s.getCompiledPattern(), "The compiled pattern is expected to be null when the pattern property is unset.");
+        s.setPattern("[a-z]+");
+        final Pattern compiledPattern = s.getCompiledPattern();
+        assertNotNull(compiledPattern, "The compiled pattern must not be null.");
+        assertEquals(compiledPattern.pattern(), "[a-z]+", "The compiled pattern is expected to be compiled from the pattern property.");
+        assertSame(s.getCompiledPattern(), compiledPattern, "The compiled pattern is expected to be the same instance until the pattern changes.");
+        checkSameObject(s, s.pattern("[0-9]+"));
+        final Pattern compiledPattern2 = s.getCompiledPattern();
+        assertNotSame(compiledPattern2, compiledPattern, "The compiled pattern is expected to change when the pattern changes.");
+        assertEquals(compiledPattern2.pattern(), "[0-9]+", "The compiled pattern is expected to be compiled from the pattern property.");
+        assertSame(s.getCompiledPattern(), compiledPattern2, "The compiled pattern is expected to be the same instance until the pattern changes.");
+        s.setPattern(null);
+        assertNull(s.getCompiledPattern(), "The compiled pattern is expected to be null when the pattern property is unset.");
+    }
+    
+    @Test
+    public void schemaFootprintTest() {
+        if (!HeapUsage.canForceGc()) {
+            throw new SkipException("The heap cannot be measured when garbage collection cannot be forced, e.g. with -XX:+DisableExplicitGC");
+        }
+        final int count = 100_000;
+        // The smallest of several measurements, the heap of the JVM also holds the allocations of other threads
+        final long retained = HeapUsage.minRetainedBytes(() -> {
+            final Schema[] schemas = new Schema[count];
+            for (int i = 0; i < count; i++) {
+                schemas[i] = OASFactory.createObject(Schema.class).type(Schema.SchemaType.STRING);
+            }
+            return schemas;
+        }, FOOTPRINT_RUNS);
+        if (retained < 0) {
+            throw new SkipException("The heap could not be measured, it shrank during each of the " + FOOTPRINT_RUNS + " measurements");
+        }
+        final long bytesPerSchema = retained / count;
+        assertTrue(bytesPerSchema <= MAX_BYTES_PER_SCHEMA, "A Schema with a single property set is expected to use at most " + 
+                MAX_BYTES_PER_SCHEMA + " bytes of heap, but " + count + " instances used " + bytesPerSchema + " bytes each. " + 
+                "List and Map properties must not be allocated until they are first set or added to.");
     }
     
     @Test
@@ -1340,6 +1428,7 @@ public class ModelConstructionTest extends Arquillian {
 
     private <T extends Constructible> T processConstructible(Class<T> clazz) {
         final T o = createConstructibleInstance(clazz);
+        checkUnsetCollectionsNull(o, clazz);
         if (o instanceof Extensible && Extensible.class.isAssignableFrom(clazz)) {
             processExtensible((Extensible<?>) o);
         }
@@ -1365,6 +1454,21 @@ public class ModelConstructionTest extends Arquillian {
         return o1;
     }
     
+    // Check that the List and Map properties of a new instance are not allocated until they are first set or added to.
+    private <T extends Constructible> void checkUnsetCollectionsNull(T o, Class<T> clazz) {
+        if (o instanceof Extensible) {
+            assertNull(((Extensible<?>) o).getExtensions(),
+                    "The extensions map of a new instance of " + clazz.getName() + " is expected to be null.");
+        }
+        collectProperties(clazz).values().stream()
+            .filter((p) -> p.isComplete() && (p.isCompatible(Map.class) || p.isCompatible(List.class)))
+            .forEach((p) -> {
+                assertNull(p.invokeGetter(o), "The return value of the getter method for property \"" + 
+                        p.getName() + "\" of a new instance of interface \"" + clazz.getName() +
+                        "\" is expected to be null.");
+            });
+    }
+    
     private void processExtensible(Extensible<?> e) {
         final String extensionName1 = "x-" + e.getClass().getName() + "-1";
         final Object obj1 = new Object();
@@ -24,13 +24,18 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.startsWith;
 import static org.hamcrest.collection.IsMapWithSize.aMapWithSize;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.List;
 
+import org.eclipse.microprofile.openapi.filter.ProcessingTimeOASFilter;
+import org.eclipse.microprofile.openapi.reader.SlowOASModelReader;
 import org.jboss.arquillian.container.test.api.Deployment;
 import org.jboss.arquillian.container.test.api.RunAsClient;
 import org.jboss.shrinkwrap.api.ShrinkWrap;
@@ -45,6 +50,7 @@ public class ModelReaderAppTest extends AppTestBase {
         return ShrinkWrap.create(WebArchive.class, "airlinesReader.war")
                 .addPackages(true, "org.eclipse.microprofile.openapi.apps.airlines")
                 .addPackages(true, "org.eclipse.microprofile.openapi.reader")
+                .addPackages(true, "org.eclipse.microprofile.openapi.filter")
                 .addAsManifestResource("microprofile-reader.properties", "microprofile-config.properties");
     }
 
@@ -309,4 +315,39 @@ public class ModelReaderAppTest extends AppTestBase {
         vr.body(content1 + ".schema.type", equalTo("array"));
         vr.body(content1 + ".schema.items", notNullValue());
     }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testAsyncModelReader(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        // The reader was called through buildModelAsync, with an executor that does not run on the calling thread
+        vr.body(SlowOASModelReader.ASYNC_EXTENSION, equalTo(true));
+        vr.body(SlowOASModelReader.OTHER_THREAD_EXTENSION, equalTo(true));
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testSlowModelReaderOrdering(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        // The reader completes last, but the annotations must still override its model
+        vr.body("info.version", not(equalTo(SlowOASModelReader.READER_VERSION)));
+        vr.body("info.version", equalTo("1.0"));
+        // and what only the reader provides must still be there
+        vr.body("paths.'/modelReader/airlines'.get.summary", notNullValue());
+
+        // The reader did take its whole delay, and the vendor waited for it before filtering the merged model.
+        // The static file and the annotations run no application code, so their overlap with the reader
+        // cannot be observed from the document.
+        long started = time(vr, SlowOASModelReader.STARTED_EXTENSION);
+        long completed = time(vr, SlowOASModelReader.COMPLETED_EXTENSION);
+        long filtered = time(vr, ProcessingTimeOASFilter.STARTED_EXTENSION);
+        assertTrue(completed - started >= SlowOASModelReader.DELAY_MILLIS, "The model reader completed before its delay");
+        assertTrue(filtered >= completed, "The model was filtered before the model reader completed");
+    }
+
+    private static long time(ValidatableResponse vr, String extension) {
+        Number time = vr.extract().path(extension);
+        assertNotNull(time, extension);
+        return time.longValue();
+    }
 }
@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.tck;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.notNullValue;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.restassured.response.ValidatableResponse;
+
+/**
+ * Registers three model readers, MyOASModelReaderImpl, ErrorSchemaModelReader and GatewayModelReader, in that
+ * order, with annotation scanning disabled. Their models must be merged in that order.
+ */
+public class OASConfigModelReadersTest extends AppTestBase {
+    @Deployment(name = "airlinesModelReaders")
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, "airlinesModelReaders.war")
+                .addPackages(true, "org.eclipse.microprofile.openapi.apps.airlines")
+                .addPackages(true, "org.eclipse.microprofile.openapi.reader")
+                .addAsManifestResource("microprofile-reader-list.properties", "microprofile-config.properties");
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testAllReadersContribute(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        vr.body("info.title", equalTo("AirlinesRatingApp API"));
+        vr.body("paths.'/modelReader/airlines'.get.operationId", equalTo("getAirlines"));
+        vr.body("components.schemas", hasKey("Airlines"));
+        vr.body("components.schemas.Error.properties.code.type", equalTo("integer"));
+        vr.body("components.schemas.Error.properties.message.type", equalTo("string"));
+        vr.body("components.schemas.Error.properties.gateway.type", equalTo("string"));
+        vr.body("x-gateway-timeout", equalTo(30));
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testReadersMergedInDeclaredOrder(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        // The later readers override the conflicting elements of the earlier ones
+        vr.body("info.description", equalTo("Gateway reader"));
+        vr.body("components.schemas.Error.description", equalTo("Gateway reader"));
+        vr.body("x-readers", equalTo("gateway"));
+        // and keep the elements they do not set
+        vr.body("info.version", equalTo("1.0"));
+        vr.body("components.schemas.Error.type", equalTo("object"));
+        vr.body("info.license", notNullValue());
+    }
+}
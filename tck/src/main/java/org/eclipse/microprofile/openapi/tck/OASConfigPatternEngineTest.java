@@ -0,0 +1,50 @@
+/**
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import static org.hamcrest.Matchers.equalTo;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.restassured.response.ValidatableResponse;
+
+/**
+ * This test covers the linear pattern engine, selected by the mp.openapi.pattern.engine
+ * property. Patterns supported by the engine, including those that cause catastrophic
+ * backtracking in other engines, must be accepted and returned unchanged.
+ */
+public class OASConfigPatternEngineTest extends AppTestBase {
+    @Deployment(name = "patternEngine")
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, "patternEngine.war")
+                .addAsManifestResource("patterns.yaml", "openapi.yaml")
+                .addAsManifestResource("pattern-engine-microprofile-config.properties", "microprofile-config.properties");
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testSupportedPatterns(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        vr.body("paths.'/codes/{code}'.get.parameters[0].schema.pattern", equalTo("^[A-Z]{3}-\\d{4}$"));
+        vr.body("components.schemas.Code.properties.name.pattern", equalTo("^(a+)+$"));
+        vr.body("components.schemas.Code.properties.tag.pattern", equalTo("(?:ab|cd)*[^\\s]?"));
+    }
+}
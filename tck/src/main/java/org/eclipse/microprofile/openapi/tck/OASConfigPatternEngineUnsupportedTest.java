@@ -0,0 +1,45 @@
+/**
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.arquillian.container.test.api.ShouldThrowException;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+/**
+ * This test covers the linear pattern engine, selected by the mp.openapi.pattern.engine
+ * property. A pattern that the engine cannot handle (here a backreference) must fail
+ * the deployment.
+ */
+public class OASConfigPatternEngineUnsupportedTest extends AppTestBase {
+    @ShouldThrowException
+    @Deployment(name = "patternEngineUnsupported")
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, "patternEngineUnsupported.war")
+                .addAsManifestResource("patterns-backreference.yaml", "openapi.yaml")
+                .addAsManifestResource("pattern-engine-microprofile-config.properties", "microprofile-config.properties");
+    }
+
+    @RunAsClient
+    @Test
+    public void testUnsupportedPatternFailsDeployment() {
+        // The deployment is expected to fail, which is verified by @ShouldThrowException
+    }
+}
@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.tck;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasKey;
+
+import org.eclipse.microprofile.openapi.apps.initialization.InitializationOASFilter;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.restassured.response.ValidatableResponse;
+
+/**
+ * This test covers the bytecode scan mode, selected by the mp.openapi.scan.mode property. The models of the
+ * application have a static initializer that throws: they must be documented without being initialized.
+ */
+public class OASConfigScanBytecodeTest extends AppTestBase {
+    @Deployment(name = "scanBytecode")
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, "scanBytecode.war")
+                .addPackages(true, "org.eclipse.microprofile.openapi.apps.initialization")
+                .addAsManifestResource("scan-bytecode-microprofile-config.properties", "microprofile-config.properties");
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testScannedClassesNotInitialized(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        vr.body("info.title", equalTo("Initialization API"));
+        vr.body(InitializationOASFilter.INITIALIZED_EXTENSION, empty());
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testAnnotationsReadFromBytecode(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        vr.body("paths.'/explosions/{id}'.get.operationId", equalTo("getExplosion"));
+        vr.body("paths.'/explosions/{id}'.get.responses.'200'.content.'application/json'.schema.$ref",
+                equalTo("#/components/schemas/ExplodingModel"));
+
+        final String model = "components.schemas.ExplodingModel";
+        vr.body(model + ".description", equalTo("Model whose static initializer throws"));
+        vr.body(model + ".required", contains("id"));
+        vr.body(model + ".properties.id.description", equalTo("Identifier of the explosion"));
+        vr.body(model + ".properties", hasKey("status"));
+
+        // The constants of the enumeration are read without initializing it, inline or in its own schema
+        String status = dereference(vr, model + ".properties.status");
+        vr.body(status + ".enum", containsInAnyOrder("ARMED", "DEFUSED"));
+    }
+}
@@ -0,0 +1,62 @@
+/**
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.tck;
+
+import static org.eclipse.microprofile.openapi.tck.OASConfigSchemaTest.EPOCH_SECONDS_DESCRIPTION;
+import static org.eclipse.microprofile.openapi.tck.OASConfigSchemaTest.EPOCH_SECONDS_TITLE;
+import static org.eclipse.microprofile.openapi.tck.OASConfigSchemaTest.epochSecondsRef;
+import static org.eclipse.microprofile.openapi.tck.OASConfigSchemaTest.epochSecondsSchema;
+import static org.hamcrest.Matchers.anyOf;
+
+import org.eclipse.microprofile.openapi.filter.SchemaConfigOASFilter;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.restassured.response.ValidatableResponse;
+
+/**
+ * Verifies that each use of a schema defined by an <code>mp.openapi.schema.*</code> configuration property is
+ * independent: the filter modifies the description of the inline schema of <code>Lizard.birthInstant</code> and
+ * the title of the <code>EpochSeconds</code> entry in the components, and neither change must affect the other
+ * schema.
+ */
+public class OASConfigSchemaFilterTest extends AppTestBase {
+
+    @Deployment(name = "petstoreSchemaFilter")
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, "petstoreSchemaFilter.war")
+                         .addPackages(true, "org.eclipse.microprofile.openapi.apps.petstore")
+                         .addPackages(true, "org.eclipse.microprofile.openapi.filter")
+                         .addAsWebInfResource("schema-filter-microprofile-config.properties",
+                                              "classes/META-INF/microprofile-config.properties");
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testSchemaConfigCopied(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+
+        // Each schema keeps the original value of the field the filter only modified in the other one
+        vr.body("components.schemas.EpochSeconds",
+                epochSecondsSchema(SchemaConfigOASFilter.EPOCH_SECONDS_TITLE, EPOCH_SECONDS_DESCRIPTION));
+        vr.body("components.schemas.Lizard.properties.birthInstant",
+                anyOf(epochSecondsSchema(EPOCH_SECONDS_TITLE, SchemaConfigOASFilter.BIRTH_INSTANT_DESCRIPTION),
+                      epochSecondsRef()));
+    }
+}
@@ -34,6 +34,10 @@ import io.restassured.response.ValidatableResponse;
 
 public class OASConfigSchemaTest extends AppTestBase {
 
+    static final String EPOCH_SECONDS_TITLE = "Epoch Seconds";
+
+    static final String EPOCH_SECONDS_DESCRIPTION = "Number of seconds from the epoch of 1970-01-01T00:00:00Z";
+
     @Deployment(name = "petstore")
     public static WebArchive createDeployment() {
         return ShrinkWrap.create(WebArchive.class, "petstore.war")
@@ -52,15 +56,23 @@ public class OASConfigSchemaTest extends AppTestBase {
                 anyOf(epochSecondsSchema(), epochSecondsRef()));
     }
 
-    private Matcher<Map<? extends String, ? extends String>> epochSecondsSchema() {
+    static Matcher<Map<? extends String, ? extends String>> epochSecondsSchema() {
+        return epochSecondsSchema(EPOCH_SECONDS_TITLE, EPOCH_SECONDS_DESCRIPTION);
+    }
+
+    /**
+     * @return a matcher of the schema defined by the <code>mp.openapi.schema.java.time.Instant</code> configuration
+     *         property, with the given title and description
+     */
+    static Matcher<Map<? extends String, ? extends String>> epochSecondsSchema(String title, String description) {
         return allOf(aMapWithSize(4),
-                     hasEntry("title", "Epoch Seconds"),
+                     hasEntry("title", title),
                      hasEntry("type", "number"),
                      hasEntry("format", "int64"),
-                     hasEntry("description", "Number of seconds from the epoch of 1970-01-01T00:00:00Z"));
+                     hasEntry("description", description));
     }
 
-    private Matcher<Map<? extends String, ? extends String>> epochSecondsRef() {
+    static Matcher<Map<? extends String, ? extends String>> epochSecondsRef() {
         return allOf(aMapWithSize(1), hasEntry("$ref", "#/components/schemas/EpochSeconds"));
     }
 }
@@ -0,0 +1,57 @@
+/**
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.tck;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.restassured.response.ValidatableResponse;
+
+/**
+ * Sets <code>mp.openapi.static.mapped.threshold</code> to <code>1</code>, so that the static file is loaded without
+ * intermediate copies, whether the application is exploded on disk or not. The file contains multi-byte UTF-8
+ * characters, which must be decoded the same way as when the file is read into memory.
+ */
+public class OASConfigStaticMappedThresholdTest extends AppTestBase {
+    @Deployment(name = "staticMapped")
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, "staticMapped.war")
+                .addAsManifestResource("simpleapi-utf8.yaml", "openapi.yaml")
+                .addAsManifestResource("static-mapped-microprofile-config.properties", "microprofile-config.properties");
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testStaticFileMapped(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        vr.body("openapi", startsWith("3.0."));
+        vr.body("info.title", equalTo("Réservations API"));
+        vr.body("info.description", equalTo("Vols Paris – 東京 ✈ 🛫"));
+
+        final String reservationsPathGet = "paths.'/réservations'.get";
+        vr.body(reservationsPathGet + ".summary", equalTo("liste des réservations"));
+        vr.body(reservationsPathGet + ".operationId", equalTo("listeReservations"));
+        vr.body(reservationsPathGet + ".responses.'200'.description", equalTo("Réservations trouvées ✓"));
+
+        vr.body("components.schemas.'Réservation'.properties.'aéroport'.example", equalTo("東京国際空港"));
+    }
+}
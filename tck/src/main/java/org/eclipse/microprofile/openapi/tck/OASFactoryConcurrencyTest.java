@@ -0,0 +1,140 @@
+/**
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.tck;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.Constructible;
+import org.eclipse.microprofile.openapi.models.ExternalDocumentation;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.Paths;
+import org.eclipse.microprofile.openapi.models.callbacks.Callback;
+import org.eclipse.microprofile.openapi.models.examples.Example;
+import org.eclipse.microprofile.openapi.models.headers.Header;
+import org.eclipse.microprofile.openapi.models.info.Contact;
+import org.eclipse.microprofile.openapi.models.info.Info;
+import org.eclipse.microprofile.openapi.models.info.License;
+import org.eclipse.microprofile.openapi.models.links.Link;
+import org.eclipse.microprofile.openapi.models.media.Content;
+import org.eclipse.microprofile.openapi.models.media.Discriminator;
+import org.eclipse.microprofile.openapi.models.media.Encoding;
+import org.eclipse.microprofile.openapi.models.media.MediaType;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.media.XML;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.eclipse.microprofile.openapi.models.parameters.RequestBody;
+import org.eclipse.microprofile.openapi.models.responses.APIResponse;
+import org.eclipse.microprofile.openapi.models.responses.APIResponses;
+import org.eclipse.microprofile.openapi.models.security.OAuthFlow;
+import org.eclipse.microprofile.openapi.models.security.OAuthFlows;
+import org.eclipse.microprofile.openapi.models.security.SecurityRequirement;
+import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
+import org.eclipse.microprofile.openapi.models.servers.Server;
+import org.eclipse.microprofile.openapi.models.servers.ServerVariable;
+import org.eclipse.microprofile.openapi.models.tags.Tag;
+import org.eclipse.microprofile.openapi.spi.OASFactoryResolver;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+/**
+ * Calls {@link OASFactory#createObject(Class)} from many threads at once. Every call must succeed and return a new
+ * instance of the requested type, and every thread must see the same {@link OASFactoryResolver}.
+ */
+public class OASFactoryConcurrencyTest extends Arquillian {
+
+    private static final int THREADS = Integer.getInteger("test.concurrency.threads", 16);
+    private static final int ITERATIONS = 2000;
+
+    private static final List<Class<? extends Constructible>> TYPES = Arrays.asList(
+            Components.class, ExternalDocumentation.class, OpenAPI.class, Operation.class, PathItem.class, Paths.class,
+            Callback.class, Example.class, Header.class, Contact.class, Info.class, License.class, Link.class,
+            Content.class, Discriminator.class, Encoding.class, MediaType.class, Schema.class, XML.class,
+            Parameter.class, RequestBody.class, APIResponse.class, APIResponses.class, OAuthFlow.class,
+            OAuthFlows.class, SecurityRequirement.class, SecurityScheme.class, Server.class, ServerVariable.class,
+            Tag.class);
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class);
+    }
+
+    @Test
+    public void concurrentCreateObjectTest() throws Exception {
+        // All the threads make their first call together, to race on the lookup of the resolver
+        CyclicBarrier barrier = new CyclicBarrier(THREADS);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<List<Object>>> futures = new ArrayList<>(THREADS);
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(createObjects(barrier, i)));
+            }
+
+            Set<Object> resolvers = Collections.newSetFromMap(new IdentityHashMap<>());
+            Set<Object> objects = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (Future<List<Object>> future : futures) {
+                List<Object> created = future.get(1, TimeUnit.MINUTES);
+                resolvers.add(created.get(0));
+                objects.addAll(created.subList(1, created.size()));
+            }
+            assertEquals(resolvers.size(), 1, "Number of different OASFactoryResolver instances seen by the threads");
+            assertEquals(objects.size(), THREADS * ITERATIONS, "Number of different objects created");
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * @return a task returning the resolver it has seen, followed by the objects it has created
+     */
+    private static Callable<List<Object>> createObjects(CyclicBarrier barrier, int offset) {
+        return () -> {
+            List<Object> created = new ArrayList<>(ITERATIONS + 1);
+            barrier.await();
+            created.add(OASFactoryResolver.instance());
+            for (int i = 0; i < ITERATIONS; i++) {
+                Class<? extends Constructible> type = TYPES.get((offset + i) % TYPES.size());
+                Constructible object = OASFactory.createObject(type);
+                assertNotNull(object, "createObject(" + type.getName() + ")");
+                assertTrue(type.isInstance(object), object.getClass().getName() + " is not a " + type.getName());
+                created.add(object);
+            }
+            return created;
+        };
+    }
+}
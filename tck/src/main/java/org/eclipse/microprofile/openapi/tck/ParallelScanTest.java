@@ -0,0 +1,130 @@
+/**
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.tck;
+
+import static io.restassured.RestAssured.given;
+import static org.testng.Assert.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jboss.arquillian.container.test.api.Deployer;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.ByteArrayAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+
+/**
+ * Deploys the same application with <code>mp.openapi.scan.parallelism</code> set to <code>1</code> and to a larger
+ * value, one after the other, and verifies that both deployments serve exactly the same document in each format,
+ * including CBOR when it is served.
+ * <p>
+ * Both deployments of an application share the same archive name, so that the context root, which may appear in the
+ * servers of the document, is the same.
+ * <p>
+ * The parallelism of the second deployment can be set with the system property <code>test.scan.parallelism</code>.
+ */
+public class ParallelScanTest extends AppTestBase {
+
+    private static final int PARALLELISM = Integer.getInteger("test.scan.parallelism", 8);
+
+    @ArquillianResource
+    private Deployer deployer;
+
+    @Deployment(name = "airlinesSerialScan", managed = false)
+    public static WebArchive createAirlinesSerialDeployment() {
+        return airlines(1);
+    }
+
+    @Deployment(name = "airlinesParallelScan", managed = false)
+    public static WebArchive createAirlinesParallelDeployment() {
+        return airlines(PARALLELISM);
+    }
+
+    @Deployment(name = "petstoreSerialScan", managed = false)
+    public static WebArchive createPetstoreSerialDeployment() {
+        return petstore(1);
+    }
+
+    @Deployment(name = "petstoreParallelScan", managed = false)
+    public static WebArchive createPetstoreParallelDeployment() {
+        return petstore(PARALLELISM);
+    }
+
+    private static WebArchive airlines(int parallelism) {
+        return ShrinkWrap.create(WebArchive.class, "airlinesScan.war")
+                .addPackages(true, "org.eclipse.microprofile.openapi.apps.airlines")
+                .addAsManifestResource("openapi.yaml", "openapi.yaml")
+                .addAsManifestResource(config(parallelism), "microprofile-config.properties");
+    }
+
+    private static WebArchive petstore(int parallelism) {
+        return ShrinkWrap.create(WebArchive.class, "petstoreScan.war")
+                .addPackages(true, "org.eclipse.microprofile.openapi.apps.petstore")
+                .addAsManifestResource(config(parallelism), "microprofile-config.properties");
+    }
+
+    private static ByteArrayAsset config(int parallelism) {
+        return new ByteArrayAsset(("mp.openapi.scan.parallelism=" + parallelism + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    @RunAsClient
+    @Test
+    public void testAirlinesParallelScan() {
+        assertSameDocuments("airlinesSerialScan", "airlinesParallelScan");
+    }
+
+    @RunAsClient
+    @Test
+    public void testPetstoreParallelScan() {
+        assertSameDocuments("petstoreSerialScan", "petstoreParallelScan");
+    }
+
+    private void assertSameDocuments(String serialDeployment, String parallelDeployment) {
+        Map<String, String> serial = documents(serialDeployment);
+        Map<String, String> parallel = documents(parallelDeployment);
+        for (String type : serial.keySet()) {
+            assertEquals(parallel.get(type), serial.get(type),
+                    type + " document with mp.openapi.scan.parallelism=" + PARALLELISM + " differs from the serial scan");
+        }
+    }
+
+    private Map<String, String> documents(String deployment) {
+        deployer.deploy(deployment);
+        try {
+            Map<String, String> documents = new LinkedHashMap<>();
+            documents.put("JSON", given().accept(ContentType.JSON).when().get("/openapi").then().statusCode(200).extract().asString());
+            documents.put("YAML", given().accept(ContentType.ANY).when().get("/openapi").then().statusCode(200).extract().asString());
+            // Compared as Base64, the CBOR document is binary; it is left out when CBOR is not served
+            Response cbor = given().accept(APPLICATION_CBOR).when().get("/openapi");
+            if (cbor.statusCode() == 200 && cbor.contentType().startsWith(APPLICATION_CBOR)) {
+                documents.put("CBOR", Base64.getEncoder().encodeToString(cbor.asByteArray()));
+            }
+            return documents;
+        }
+        finally {
+            deployer.undeploy(deployment);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/**
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.tck;
+
+import static org.eclipse.microprofile.openapi.tck.utils.HeapUsage.usedHeap;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.collection.IsMapWithSize.aMapWithSize;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.openapi.tck.utils.SyntheticApiGenerator;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.restassured.response.ValidatableResponse;
+
+/**
+ * Deploys an application generated by {@link SyntheticApiGenerator} at the scale set with the
+ * <code>test.scale.*</code> system properties, 1000 operations by default, and verifies that the document is
+ * complete and served within the configured time budget.
+ * <p>
+ * The heap budget only covers the generation and compilation of the application, in the JVM of the TCK: the heap
+ * used by the implementation to serve <code>/openapi</code> cannot be observed from the client.
+ */
+public class ScaleTest extends AppTestBase {
+
+    private static final List<String> METHODS = Arrays.asList("get", "put", "post", "delete");
+
+    // Budgets, in milliseconds and megabytes. The heap budget is the heap retained by the generator, in this JVM
+    private static final long GENERATION_TIMEOUT = Long.getLong("test.scale.generationTimeout", 120000);
+    private static final long GENERATION_HEAP = Long.getLong("test.scale.generationHeap", 256);
+    private static final long RESPONSE_TIMEOUT = Long.getLong("test.scale.responseTimeout", 30000);
+
+    private static SyntheticApiGenerator generator;
+    private static long generationMillis;
+    private static long generationBytes;
+
+    @Deployment(name = "synthetic")
+    public static WebArchive createDeployment() {
+        generator = SyntheticApiGenerator.fromSystemProperties();
+        long heap = usedHeap();
+        long start = System.nanoTime();
+        WebArchive archive = generator.addTo(ShrinkWrap.create(WebArchive.class, "synthetic.war"));
+        generationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        generationBytes = usedHeap() - heap;
+        return archive;
+    }
+
+    @RunAsClient
+    @Test
+    public void testGenerationBudget() {
+        assertThat("Generation time in ms", generationMillis, lessThanOrEqualTo(GENERATION_TIMEOUT));
+        assertThat("Heap retained by the generator in MB", generationBytes / (1024 * 1024), lessThanOrEqualTo(GENERATION_HEAP));
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testResponseTime(String type) {
+        long start = System.nanoTime();
+        callEndpoint(type);
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertThat("Response time in ms", millis, lessThanOrEqualTo(RESPONSE_TIMEOUT));
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testOperations(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        vr.body("paths", aMapWithSize(generator.getPaths()));
+
+        Map<String, Map<String, Object>> paths = vr.extract().path("paths");
+        int operations = 0;
+        for (Map<String, Object> pathItem : paths.values()) {
+            for (String key : pathItem.keySet()) {
+                if (METHODS.contains(key)) {
+                    operations++;
+                }
+            }
+        }
+        assertThat("Number of operations", operations, equalTo(generator.getOperations()));
+
+        vr.body("paths.'/r0/s0'.get.operationId", equalTo("r0s0list"));
+        vr.body("paths.'/r0/s0'.get.responses.'200'.content.'application/json'.schema.items.$ref",
+                equalTo("#/components/schemas/Entity0"));
+        vr.body("paths.'/r0/s0/{id}'.get.responses.'200'.content.'application/json'.schema.$ref",
+                equalTo("#/components/schemas/Entity0"));
+        vr.body("paths.'/r0/s0/{id}'.delete.responses.'204'.description", equalTo("Deleted"));
+        int last = generator.getResources() - 1;
+        vr.body("components.schemas.Entity" + last + ".description", equalTo("Entity of resource " + last));
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testSchemaGraph(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        for (int i = 0; i + 1 < generator.getSchemaDepth(); i++) {
+            String next = "#/components/schemas/Model" + (i + 1);
+            vr.body("components.schemas.Model" + i + ".properties.next.$ref", equalTo(next));
+            vr.body("components.schemas.Model" + i + ".properties.siblings.items.$ref", equalTo(next));
+        }
+        vr.body("components.schemas.Model" + (generator.getSchemaDepth() - 1) + ".properties", aMapWithSize(1));
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testRecursiveSchemas(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        vr.body("components.schemas.TreeNode.properties.parent.$ref", equalTo("#/components/schemas/TreeNode"));
+        vr.body("components.schemas.TreeNode.properties.children.items.$ref", equalTo("#/components/schemas/TreeNode"));
+        vr.body("components.schemas.Account.properties.owner.$ref", equalTo("#/components/schemas/Owner"));
+        vr.body("components.schemas.Owner.properties.accounts.items.$ref", equalTo("#/components/schemas/Account"));
+        vr.body("components.schemas.Entity0.properties.tree.$ref", equalTo("#/components/schemas/TreeNode"));
+    }
+}
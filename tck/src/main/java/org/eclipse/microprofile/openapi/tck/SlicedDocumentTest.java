@@ -0,0 +1,114 @@
+/**
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+import static org.hamcrest.collection.IsMapWithSize.aMapWithSize;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.restassured.response.ValidatableResponse;
+
+/**
+ * This test covers the tag, path and operationId query parameters of the
+ * /openapi endpoint, which return a slice of the airlines app document.
+ */
+public class SlicedDocumentTest extends AppTestBase {
+    @Deployment(name = "airlinesSliced")
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, "airlinesSliced.war")
+                .addPackages(true, "org.eclipse.microprofile.openapi.apps.airlines");
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testSliceByTag(String type) {
+        ValidatableResponse vr = callEndpoint(type, Collections.singletonMap("tag", "Reservations"));
+        vr.body("openapi", startsWith("3.0."));
+        vr.body("info.title", equalTo("AirlinesRatingApp API"));
+
+        vr.body("paths", aMapWithSize(2));
+        vr.body("paths.'/bookings'", aMapWithSize(1));
+        vr.body("paths.'/bookings'.post.operationId", equalTo("createBooking"));
+        vr.body("paths.'/bookings/{id}'", aMapWithSize(2));
+        vr.body("paths.'/bookings/{id}'.get.operationId", equalTo("getBookingById"));
+        vr.body("paths.'/bookings/{id}'.put.operationId", equalTo("updateBookingId"));
+        vr.body("paths.'/availability'", nullValue());
+        vr.body("paths.'/reviews'", nullValue());
+
+        vr.body("tags.find { it.name == 'Reservations' }", notNullValue());
+        vr.body("tags.find { it.name == 'Reviews' }", nullValue());
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testSliceByPath(String type) {
+        ValidatableResponse vr = callEndpoint(type, Collections.singletonMap("path", "/bookings"));
+        vr.body("paths", aMapWithSize(2));
+        vr.body("paths.'/bookings'.get.operationId", equalTo("getAllBookings"));
+        vr.body("paths.'/bookings'.post.operationId", equalTo("createBooking"));
+        vr.body("paths.'/bookings/{id}'.delete.operationId", equalTo("deleteBookingById"));
+        vr.body("paths.'/availability'", nullValue());
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testSliceByOperationId(String type) {
+        ValidatableResponse vr = callEndpoint(type, Collections.singletonMap("operationId", "getFlights"));
+        vr.body("paths", aMapWithSize(1));
+        vr.body("paths.'/availability'", aMapWithSize(1));
+        vr.body("paths.'/availability'.get.summary", equalTo("Retrieve all available flights"));
+
+        // only the components reached by the returned operation are kept
+        vr.body("components.parameters.departureDate", notNullValue());
+        vr.body("components.parameters.username", nullValue());
+        vr.body("components.requestBodies.review", nullValue());
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testSliceCombined(String type) {
+        Map<String, String> queryParams = new HashMap<>();
+        queryParams.put("path", "/bookings");
+        queryParams.put("tag", "Reservations");
+
+        ValidatableResponse vr = callEndpoint(type, queryParams);
+        vr.body("paths", aMapWithSize(2));
+        vr.body("paths.'/bookings'.get", nullValue());
+        vr.body("paths.'/bookings'.post", notNullValue());
+        vr.body("paths.'/bookings/{id}'.delete", nullValue());
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testSliceNoMatch(String type) {
+        ValidatableResponse vr = callEndpoint(type, Collections.singletonMap("operationId", "doesNotExist"));
+        vr.body("openapi", startsWith("3.0."));
+        vr.body("paths", aMapWithSize(0));
+    }
+}
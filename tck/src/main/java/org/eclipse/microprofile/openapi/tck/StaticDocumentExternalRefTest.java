@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.tck;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.collection.IsMapWithSize.aMapWithSize;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.restassured.response.ValidatableResponse;
+
+/**
+ * This test covers a META-INF/openapi.yaml file that references objects of other files of
+ * the application through relative <code>$ref</code> values. It verifies that the referenced
+ * objects are bundled into the components of the document.
+ */
+public class StaticDocumentExternalRefTest extends AppTestBase {
+
+    @Deployment(name = "staticExternalRef")
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, "staticExternalRef.war")
+                .addAsManifestResource("externalref-openapi.yaml", "openapi.yaml")
+                .addAsManifestResource("externalref-common.yaml", "common.yaml")
+                .addAsManifestResource("externalref-booking.yaml", "schemas/Booking.yaml")
+                .addAsManifestResource("externalref-address.yaml", "schemas/Address.yaml");
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testFileReference(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+
+        final String bookingsPath = "paths.'/bookings'";
+        vr.body(bookingsPath + ".get.responses.'200'.content.'application/json'.schema.items.$ref",
+                equalTo("#/components/schemas/Booking"));
+        // Both references to the file share the same component
+        vr.body(bookingsPath + ".post.requestBody.content.'application/json'.schema.$ref",
+                equalTo("#/components/schemas/Booking"));
+
+        final String booking = "components.schemas.Booking";
+        vr.body(booking + ".type", equalTo("object"));
+        vr.body(booking + ".description", equalTo("a booking"));
+        vr.body(booking + ".required", hasSize(1));
+        vr.body(booking + ".properties", aMapWithSize(2));
+        vr.body(booking + ".properties.id.type", equalTo("string"));
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testPointerReference(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+
+        final String bookingsPathGet = "paths.'/bookings'.get";
+        vr.body(bookingsPathGet + ".parameters", hasSize(1));
+        vr.body(bookingsPathGet + ".parameters[0].$ref", equalTo("#/components/parameters/limit"));
+        vr.body(bookingsPathGet + ".responses.default.content.'application/json'.schema.$ref",
+                equalTo("#/components/schemas/Error"));
+
+        vr.body("components.parameters.limit.in", equalTo("query"));
+        vr.body("components.parameters.limit.description", equalTo("maximum number of records to return"));
+        vr.body("components.schemas.Error.description", equalTo("an error"));
+        vr.body("components.schemas.Error.properties", aMapWithSize(2));
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testNestedReference(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+
+        // Resolved against schemas/Booking.yaml, and renamed as the document already has an Address schema
+        vr.body("components.schemas.Booking.properties.address.$ref", equalTo("#/components/schemas/Address1"));
+        vr.body("components.schemas.Address1.description", equalTo("a postal address"));
+        vr.body("components.schemas.Address1.properties", aMapWithSize(2));
+        vr.body("components.schemas.Address.description", equalTo("an address on a single line"));
+
+        vr.body("components.schemas", aMapWithSize(5));
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testAbsoluteReferenceUnchanged(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        vr.body("paths.'/flights'.get.responses.'200'.content.'application/json'.schema.$ref",
+                equalTo("https://example.com/schemas/Flights.yaml"));
+    }
+}
@@ -21,6 +21,7 @@ import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.startsWith;
 import static org.hamcrest.collection.IsMapWithSize.aMapWithSize;
 
@@ -34,15 +35,20 @@ import io.restassured.response.ValidatableResponse;
 
 /**
  * This test covers Open API documents that are specified by the
- * META-INF/openapi.yaml file. It verifies that the /openapi
- * endpoint returns the correct content for these static files.
+ * META-INF/openapi.yaml file and by the fragments of the META-INF/openapi
+ * folder. It verifies that the /openapi endpoint returns the correct
+ * content for these static files, with the fragments merged in order.
  */
 public class StaticDocumentTest extends AppTestBase {
     
     @Deployment(name = "static")
     public static WebArchive createDeployment() {
         return ShrinkWrap.create(WebArchive.class, "static.war")
-                .addAsManifestResource("simpleapi.yaml", "openapi.yaml");
+                .addAsManifestResource("simpleapi.yaml", "openapi.yaml")
+                // added in reverse order, the fragments are merged in the order of their names
+                .addAsManifestResource("simpleapi-fragment-overrides.json", "openapi/20-overrides.json")
+                .addAsManifestResource("simpleapi-fragment-suppliers.yaml", "openapi/10-suppliers.yaml")
+                .addAsManifestResource("simpleapi-fragment-ignored.yaml", "openapi/ignored/30-ignored.yaml");
     }
     
     @RunAsClient
@@ -127,4 +133,46 @@ public class StaticDocumentTest extends AppTestBase {
         vr.body(inventoryPathTrace + ".operationId", equalTo("traceInventory"));
         vr.body(inventoryPathTrace + ".description", equalTo("tests the trace operation"));
     }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testStaticDocumentFragments(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+
+        vr.body("paths", aMapWithSize(2));
+
+        // The operations of the second fragment are merged field by field into those of the first one
+        final String suppliersPathGet = "paths.'/suppliers'.get";
+        // A list set in both fragments is replaced, not appended to
+        vr.body(suppliersPathGet + ".tags", both(hasSize(1)).and(contains("suppliers")));
+        vr.body(suppliersPathGet + ".summary", equalTo("lists suppliers"));
+        vr.body(suppliersPathGet + ".operationId", equalTo("listSuppliers"));
+        vr.body(suppliersPathGet + ".description", equalTo("fragment 20"));
+        vr.body(suppliersPathGet + ".responses.'200'.description", equalTo("the suppliers"));
+        vr.body(suppliersPathGet + ".responses.'200'.content.'application/json'.schema.items.$ref",
+                equalTo("#/components/schemas/Supplier"));
+
+        final String suppliersPathPost = "paths.'/suppliers'.post";
+        vr.body(suppliersPathPost + ".tags", both(hasSize(1)).and(contains("admins")));
+        vr.body(suppliersPathPost + ".operationId", equalTo("addSupplier"));
+        vr.body(suppliersPathPost + ".responses.'201'.description", equalTo("supplier created"));
+
+        final String supplier = "components.schemas.Supplier";
+        vr.body(supplier + ".type", equalTo("object"));
+        vr.body(supplier + ".description", equalTo("fragment 20"));
+        vr.body(supplier + ".properties", aMapWithSize(2));
+        vr.body(supplier + ".properties.id.format", equalTo("uuid"));
+        vr.body(supplier + ".properties.name.type", equalTo("string"));
+
+        // The fragments are merged over the META-INF/openapi.yaml document
+        final String manufacturer = "components.schemas.Manufacturer";
+        vr.body(manufacturer + ".description", equalTo("fragment 10"));
+        vr.body(manufacturer + ".required", both(hasSize(1)).and(contains("name")));
+        vr.body(manufacturer + ".properties", aMapWithSize(4));
+        vr.body(manufacturer + ".properties.name.example", equalTo("ACME Corporation"));
+        vr.body(manufacturer + ".properties.country.example", equalTo("US"));
+
+        // The sub-folders of META-INF/openapi are ignored
+        vr.body("paths.'/ignored'", nullValue());
+    }
 }
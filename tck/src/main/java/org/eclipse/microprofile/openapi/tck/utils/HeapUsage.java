@@ -0,0 +1,77 @@
+/**
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.eclipse.microprofile.openapi.tck.utils;
+
+import java.lang.ref.WeakReference;
+import java.util.function.Supplier;
+
+/**
+ * Measures the heap used by the JVM the test runs in. The measurements rely on {@link System#gc()} and include the
+ * allocations of the other threads of the JVM, so they are only an approximation of the heap retained by the test.
+ */
+public final class HeapUsage {
+
+    private HeapUsage() {
+    }
+
+    /**
+     * @return the number of bytes of heap in use, measured after a few requests for garbage collection so that
+     *         successive measurements can be compared
+     */
+    public static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * @return true if {@link System#gc()} collects unreachable objects, which is not the case when explicit garbage
+     *         collection is disabled, e.g. with <code>-XX:+DisableExplicitGC</code>
+     */
+    public static boolean canForceGc() {
+        WeakReference<Object> reference = new WeakReference<>(new Object());
+        usedHeap();
+        return reference.get() == null;
+    }
+
+    /**
+     * Measures the heap retained by the objects returned by the allocation, several times, and keeps the smallest
+     * measurement, the one the least affected by the allocations of other threads.
+     * 
+     * @param allocation allocates the objects to measure
+     * @param runs the number of measurements
+     * @return the smallest number of bytes retained, or -1 if no measurement could be made because the heap shrank
+     *         during each of them
+     */
+    public static long minRetainedBytes(Supplier<?> allocation, int runs) {
+        long min = -1;
+        for (int i = 0; i < runs; i++) {
+            long before = usedHeap();
+            Object retained = allocation.get();
+            long bytes = usedHeap() - before;
+            // Keep the objects reachable until the measurement is complete
+            if (retained == null) {
+                throw new IllegalArgumentException("The allocation must return the objects to measure");
+            }
+            if (bytes >= 0 && (min < 0 || bytes < min)) {
+                min = bytes;
+            }
+        }
+        return min;
+    }
+}
@@ -0,0 +1,317 @@
+/**
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.tck.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import javax.ws.rs.Path;
+
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.apps.synthetic.SyntheticApp;
+import org.jboss.shrinkwrap.api.asset.ByteArrayAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+
+/**
+ * Generates the resources and models of the synthetic application at a configurable scale, compiles them and adds
+ * them to a deployment.
+ * <p>
+ * The generated application has:
+ * <ul>
+ * <li>the requested number of operations, grouped in resources <code>/r{n}</code> of up to
+ * {@value #OPERATIONS_PER_RESOURCE} operations. Each sub-resource <code>/r{n}/s{m}</code> has a list, create, get,
+ * update and delete operation, with the operationId <code>r{n}s{m}</code> followed by the kind of operation. The
+ * responses are declared with <code>@APIResponse</code>: a <code>200</code> response with the entity, or a list of
+ * entities, in <code>application/json</code>, and a <code>204</code> response for delete.</li>
+ * <li>one <code>@Schema</code> annotated entity <code>Entity{n}</code> per resource.</li>
+ * <li>a chain of models <code>Model0</code> to <code>Model{depth - 1}</code>, where each model has a property
+ * <code>next</code> and a list <code>siblings</code> of the next model in the chain.</li>
+ * <li>the recursive types <code>TreeNode</code>, which refers to itself, and <code>Account</code> and
+ * <code>Owner</code>, which refer to each other.</li>
+ * </ul>
+ * Every entity refers to <code>Model0</code>, <code>TreeNode</code> and <code>Account</code>.
+ * <p>
+ * Compiling needs a JDK. The classes are compiled against the JAX-RS and MicroProfile OpenAPI APIs found on the
+ * classpath of the TCK.
+ */
+public final class SyntheticApiGenerator {
+
+    public static final String OPERATIONS_PROPERTY = "test.scale.operations";
+    public static final String SCHEMA_DEPTH_PROPERTY = "test.scale.schemaDepth";
+
+    public static final int DEFAULT_OPERATIONS = 1000;
+    public static final int DEFAULT_SCHEMA_DEPTH = 20;
+
+    public static final int OPERATIONS_PER_SUB_RESOURCE = 5;
+    public static final int OPERATIONS_PER_RESOURCE = 25;
+
+    private static final String PACKAGE = SyntheticApp.class.getPackage().getName();
+    private static final String[] KINDS = { "list", "create", "get", "update", "delete" };
+
+    private final int operations;
+    private final int schemaDepth;
+
+    public SyntheticApiGenerator(int operations, int schemaDepth) {
+        if (operations < 1 || schemaDepth < 1) {
+            throw new IllegalArgumentException("The number of operations and the schema depth must be at least 1");
+        }
+        this.operations = operations;
+        this.schemaDepth = schemaDepth;
+    }
+
+    /**
+     * Creates a generator for the scale set with the system properties {@value #OPERATIONS_PROPERTY} and
+     * {@value #SCHEMA_DEPTH_PROPERTY}, or the default scale if they are not set.
+     * 
+     * @return the generator
+     */
+    public static SyntheticApiGenerator fromSystemProperties() {
+        return new SyntheticApiGenerator(Integer.getInteger(OPERATIONS_PROPERTY, DEFAULT_OPERATIONS),
+                Integer.getInteger(SCHEMA_DEPTH_PROPERTY, DEFAULT_SCHEMA_DEPTH));
+    }
+
+    public int getOperations() {
+        return operations;
+    }
+
+    public int getSchemaDepth() {
+        return schemaDepth;
+    }
+
+    public int getResources() {
+        return (operations + OPERATIONS_PER_RESOURCE - 1) / OPERATIONS_PER_RESOURCE;
+    }
+
+    /**
+     * @return the number of path items of the generated application
+     */
+    public int getPaths() {
+        int remainder = operations % OPERATIONS_PER_SUB_RESOURCE;
+        // list and create share a path, get, update and delete share the other one
+        return operations / OPERATIONS_PER_SUB_RESOURCE * 2 + (remainder > 0 ? 1 : 0) + (remainder > 2 ? 1 : 0);
+    }
+
+    /**
+     * Generates and compiles the application, and adds the classes to the given archive.
+     * 
+     * @param archive the archive
+     * @return the archive, for chaining
+     */
+    public WebArchive addTo(WebArchive archive) {
+        for (Map.Entry<String, byte[]> entry : compile(generate()).entrySet()) {
+            archive.add(new ByteArrayAsset(entry.getValue()), "WEB-INF/classes/" + entry.getKey().replace('.', '/') + ".class");
+        }
+        return archive.addClass(SyntheticApp.class);
+    }
+
+    /**
+     * @return the generated sources, by fully qualified class name
+     */
+    public Map<String, String> generate() {
+        Map<String, String> sources = new LinkedHashMap<>();
+        for (int resource = 0; resource < getResources(); resource++) {
+            sources.put(PACKAGE + ".Resource" + resource, resource(resource));
+            sources.put(PACKAGE + ".Entity" + resource, entity(resource));
+        }
+        for (int depth = 0; depth < schemaDepth; depth++) {
+            String next = depth + 1 < schemaDepth ? "Model" + (depth + 1) : null;
+            sources.put(PACKAGE + ".Model" + depth, model("Model" + depth, "String", "value", next, "next",
+                    next == null ? null : "List<" + next + ">", "siblings"));
+        }
+        sources.put(PACKAGE + ".TreeNode", model("TreeNode", "String", "label", "TreeNode", "parent", "List<TreeNode>", "children"));
+        sources.put(PACKAGE + ".Account", model("Account", "String", "number", "Owner", "owner", null, null));
+        sources.put(PACKAGE + ".Owner", model("Owner", "String", "name", null, null, "List<Account>", "accounts"));
+        return sources;
+    }
+
+    private String resource(int resource) {
+        String entity = "Entity" + resource;
+        StringBuilder source = header()
+                .append("import javax.ws.rs.*;\n")
+                .append("import org.eclipse.microprofile.openapi.annotations.Operation;\n")
+                .append("import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;\n")
+                .append("import org.eclipse.microprofile.openapi.annotations.media.Content;\n")
+                .append("import org.eclipse.microprofile.openapi.annotations.media.Schema;\n")
+                .append("import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;\n\n")
+                .append("@Path(\"/r").append(resource).append("\")\n")
+                .append("@Produces(\"application/json\")\n")
+                .append("@Consumes(\"application/json\")\n")
+                .append("public class Resource").append(resource).append(" {\n");
+        int first = resource * OPERATIONS_PER_RESOURCE;
+        int last = Math.min(operations, first + OPERATIONS_PER_RESOURCE);
+        for (int operation = first; operation < last; operation++) {
+            int subResource = (operation - first) / OPERATIONS_PER_SUB_RESOURCE;
+            int kind = (operation - first) % OPERATIONS_PER_SUB_RESOURCE;
+            String path = "/s" + subResource + (kind < 2 ? "" : "/{id}");
+            String id = kind < 2 ? "" : "@PathParam(\"id\") long id";
+            source.append("    @").append(new String[] { "GET", "POST", "GET", "PUT", "DELETE" }[kind]).append('\n')
+                    .append("    @Path(\"").append(path).append("\")\n")
+                    .append("    @Operation(operationId = \"r").append(resource).append('s').append(subResource)
+                    .append(KINDS[kind]).append("\")\n")
+                    .append("    ").append(response(kind, entity)).append('\n')
+                    .append("    public ").append(kind == 0 ? "List<" + entity + ">" : kind == 4 ? "void" : entity)
+                    .append(' ').append(KINDS[kind]).append(subResource).append('(').append(id);
+            if (kind == 1 || kind == 3) {
+                source.append(id.isEmpty() ? "" : ", ").append(entity).append(" body");
+            }
+            source.append(") {\n        ").append(kind == 4 ? "" : "return null;").append("\n    }\n\n");
+        }
+        return source.append("}\n").toString();
+    }
+
+    // The responses are explicit, the TCK must not rely on the responses a vendor may infer from the return type
+    private static String response(int kind, String entity) {
+        if (kind == 4) {
+            return "@APIResponse(responseCode = \"204\", description = \"Deleted\")";
+        }
+        return "@APIResponse(responseCode = \"200\", description = \"" + (kind == 0 ? "List of " : "") + entity
+                + "\", content = @Content(mediaType = \"application/json\", schema = @Schema("
+                + (kind == 0 ? "type = SchemaType.ARRAY, " : "") + "implementation = " + entity + ".class)))";
+    }
+
+    private String entity(int resource) {
+        String name = "Entity" + resource;
+        StringBuilder source = header()
+                .append("import org.eclipse.microprofile.openapi.annotations.media.Schema;\n\n")
+                .append("@Schema(name = \"").append(name).append("\", description = \"Entity of resource ")
+                .append(resource).append("\")\n")
+                .append("public class ").append(name).append(" {\n");
+        property(source, "long", "id");
+        property(source, "String", "name");
+        property(source, "Model0", "model");
+        property(source, "TreeNode", "tree");
+        property(source, "Account", "account");
+        return source.append("}\n").toString();
+    }
+
+    private String model(String name, String... typesAndNames) {
+        StringBuilder source = header()
+                .append("import org.eclipse.microprofile.openapi.annotations.media.Schema;\n\n")
+                .append("@Schema(name = \"").append(name).append("\")\n")
+                .append("public class ").append(name).append(" {\n");
+        for (int i = 0; i < typesAndNames.length; i += 2) {
+            if (typesAndNames[i] != null) {
+                property(source, typesAndNames[i], typesAndNames[i + 1]);
+            }
+        }
+        return source.append("}\n").toString();
+    }
+
+    private static StringBuilder header() {
+        return new StringBuilder(4096)
+                .append("package ").append(PACKAGE).append(";\n\n")
+                .append("import java.util.List;\n");
+    }
+
+    private static void property(StringBuilder source, String type, String name) {
+        String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        source.append("    private ").append(type).append(' ').append(name).append(";\n\n")
+                .append("    public ").append(type).append(" get").append(capitalized).append("() {\n")
+                .append("        return ").append(name).append(";\n    }\n\n")
+                .append("    public void set").append(capitalized).append('(').append(type).append(' ').append(name)
+                .append(") {\n        this.").append(name).append(" = ").append(name).append(";\n    }\n\n");
+    }
+
+    /**
+     * Compiles the given sources in memory.
+     * 
+     * @param sources the sources, by fully qualified class name
+     * @return the class files, by fully qualified class name
+     */
+    public static Map<String, byte[]> compile(Map<String, String> sources) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("The synthetic application is compiled when the test is deployed, "
+                    + "the TCK must be run with a JDK");
+        }
+        List<JavaFileObject> units = new ArrayList<>(sources.size());
+        for (Map.Entry<String, String> source : sources.entrySet()) {
+            units.add(new SimpleJavaFileObject(uri(source.getKey(), JavaFileObject.Kind.SOURCE), JavaFileObject.Kind.SOURCE) {
+                @Override
+                public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                    return source.getValue();
+                }
+            });
+        }
+
+        Map<String, ByteArrayOutputStream> classes = new LinkedHashMap<>();
+        JavaFileManager fileManager = new ForwardingJavaFileManager<JavaFileManager>(
+                compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            @Override
+            public JavaFileObject getJavaFileForOutput(Location location, String className, JavaFileObject.Kind kind,
+                    FileObject sibling) {
+                return new SimpleJavaFileObject(uri(className, kind), kind) {
+                    @Override
+                    public OutputStream openOutputStream() {
+                        ByteArrayOutputStream out = new ByteArrayOutputStream();
+                        classes.put(className, out);
+                        return out;
+                    }
+                };
+            }
+        };
+
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        List<String> options = Arrays.asList("-classpath", classpath(), "-source", "8", "-target", "8", "-proc:none", "-nowarn");
+        if (!compiler.getTask(null, fileManager, diagnostics, options, null, units).call()) {
+            throw new IllegalStateException("The synthetic application does not compile: " + diagnostics.getDiagnostics());
+        }
+
+        Map<String, byte[]> result = new LinkedHashMap<>(classes.size() * 4 / 3 + 1);
+        for (Map.Entry<String, ByteArrayOutputStream> entry : classes.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().toByteArray());
+        }
+        return result;
+    }
+
+    private static URI uri(String className, JavaFileObject.Kind kind) {
+        return URI.create("mem:///" + className.replace('.', '/') + kind.extension);
+    }
+
+    // java.class.path is not reliable, build tools often run the tests from a manifest-only jar
+    private static String classpath() {
+        StringBuilder classpath = new StringBuilder();
+        for (Class<?> api : new Class<?>[] { Path.class, Operation.class }) {
+            try {
+                if (classpath.length() > 0) {
+                    classpath.append(File.pathSeparatorChar);
+                }
+                classpath.append(new File(api.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath());
+            }
+            catch (URISyntaxException e) {
+                throw new IllegalStateException("Cannot locate " + api.getName(), e);
+            }
+        }
+        return classpath.toString();
+    }
+}
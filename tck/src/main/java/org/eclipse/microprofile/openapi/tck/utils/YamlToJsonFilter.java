@@ -15,6 +15,8 @@
  */
 package org.eclipse.microprofile.openapi.tck.utils;
 
+import java.nio.charset.StandardCharsets;
+
 import org.apache.commons.lang3.exception.ExceptionUtils;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -43,7 +45,9 @@ public class YamlToJsonFilter implements OrderedFilter {
             Response response = ctx.next(requestSpec, responseSpec);
 
             ObjectMapper yamlReader = new ObjectMapper(new YAMLFactory());
-            Object obj = yamlReader.readValue(response.getBody().asString(), Object.class);
+            // YAML documents are served in UTF-8, while asString() would fall back to ISO-8859-1 without a charset
+            String yaml = new String(response.getBody().asByteArray(), StandardCharsets.UTF_8);
+            Object obj = yamlReader.readValue(yaml, Object.class);
 
             ObjectMapper jsonWriter = new ObjectMapper();
             String json = jsonWriter.writeValueAsString(obj);